@@ -0,0 +1,89 @@
+package com.app.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.app.event.PropertyChangedEvent;
+import com.app.model.Property;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Read-through cache for single property lookups.
+ * Cached entities are detached and must have their images initialized.
+ *
+ * Writers invalidate after commit: an entry evicted earlier could be
+ * reloaded by a concurrent miss that still sees the old row and then
+ * kept for the whole TTL.
+ */
+@Component
+public class PropertyCache {
+
+    private final Cache<Long, Property> cache;
+
+    public PropertyCache(
+            @Value("${property.cache.max-size:10000}") long maxSize,
+            @Value("${property.cache.ttl:10m}") Duration ttl) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Property get(Long id, Function<Long, Property> loader) {
+        return cache.get(id, loader);
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    // after the surrounding transaction commits, or now without one
+    public void evictAfterCommit(Long id) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        cache.invalidate(id);
+                    }
+                });
+    }
+
+    // status changes (single and bulk) are invalidated once committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        cache.invalidateAll(
+                event.properties().stream().map(Property::getId).toList());
+    }
+
+    public Map<String, Object> stats() {
+
+        CacheStats stats = cache.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("averageLoadPenaltyNanos", stats.averageLoadPenalty());
+        return result;
+    }
+}
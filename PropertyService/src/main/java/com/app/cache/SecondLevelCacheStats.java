@@ -0,0 +1,62 @@
+package com.app.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import com.app.model.Property;
+import com.app.model.PropertyImage;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Per-region counters of the Hibernate second-level and query caches.
+ * Needs hibernate.generate_statistics=true.
+ */
+@Component
+public class SecondLevelCacheStats {
+
+    // entity and collection regions, plus the default query region
+    private static final List<String> REGIONS = List.of(
+            Property.CACHE_REGION,
+            Property.IMAGES_CACHE_REGION,
+            PropertyImage.CACHE_REGION,
+            "default-query-results-region");
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    public Map<String, Object> stats() {
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+
+        for (String region : REGIONS) {
+            CacheRegionStatistics rs = statistics.getCacheRegionStatistics(region);
+            if (rs == null) {
+                continue;
+            }
+            Map<String, Object> r = new LinkedHashMap<>();
+            r.put("elementCount", rs.getElementCountInMemory());
+            r.put("hitCount", rs.getHitCount());
+            r.put("missCount", rs.getMissCount());
+            r.put("putCount", rs.getPutCount());
+            result.put(region, r);
+        }
+
+        result.put("queryCacheHitCount", statistics.getQueryCacheHitCount());
+        result.put("queryCacheMissCount", statistics.getQueryCacheMissCount());
+        result.put("updateTimestampsPutCount", statistics.getUpdateTimestampsCachePutCount());
+        return result;
+    }
+}
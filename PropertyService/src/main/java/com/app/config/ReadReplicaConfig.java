@@ -0,0 +1,115 @@
+package com.app.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Transaction-aware read/write split. Replaces the auto-configured pool
+ * with a lazy proxy: connections are fetched at the first statement, by
+ * which time a @Transactional(readOnly = true) method has marked the
+ * connection read-only and it is served from a replica. Everything else
+ * (writes, Flyway, non-transactional calls) uses the primary.
+ *
+ * All pools take their settings from spring.datasource.hikari.*; the
+ * replica pools then override URL, credentials and size.
+ */
+@Configuration
+@ConditionalOnProperty(name = "property.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Value("${spring.datasource.url}")
+    private String primaryUrl;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${property.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${property.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${property.datasource.replica.pool-size:10}")
+    private int replicaPoolSize;
+
+    // pool settings shared by the primary and replica pools
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig hikariSettings() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(
+            HikariConfig hikariSettings,
+            @Value("${property.datasource.replica.urls:}") String[] urls,
+            @Value("${property.datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariConfig config = copyOf(hikariSettings);
+            config.setPoolName("replica-" + replicas.size());
+            config.setJdbcUrl(url.trim());
+            config.setUsername(replicaUsername);
+            config.setPassword(replicaPassword);
+            config.setMaximumPoolSize(replicaPoolSize);
+            config.setReadOnly(true);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(
+                primaryPool(hikariSettings), replicas, maxLagSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaDataSource) {
+
+        LazyConnectionDataSourceProxy proxy =
+                new LazyConnectionDataSourceProxy(replicaDataSource.getPrimary());
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+
+    // read-only sessions must not fill the second-level cache from replicas
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory emf) {
+        return new ReplicaAwareTransactionManager(emf);
+    }
+
+    private HikariDataSource primaryPool(HikariConfig hikariSettings) {
+        HikariConfig config = copyOf(hikariSettings);
+        config.setPoolName("primary");
+        config.setJdbcUrl(primaryUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        return new HikariDataSource(config);
+    }
+
+    private static HikariConfig copyOf(HikariConfig settings) {
+        HikariConfig copy = new HikariConfig();
+        settings.copyStateTo(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,48 @@
+package com.app.config;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Read-only transactions may be served by a lagging replica, so their
+ * sessions read the second-level and query caches but never populate
+ * them (CacheMode.GET). Otherwise a replica read right after a write on
+ * the primary would cache the old state until the region expires.
+ */
+public class ReplicaAwareTransactionManager extends JpaTransactionManager {
+
+    public ReplicaAwareTransactionManager(EntityManagerFactory emf) {
+        super(emf);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (definition.isReadOnly()) {
+            currentSession().setCacheMode(CacheMode.GET);
+        }
+    }
+
+    // the session may outlive the transaction (open-in-view)
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        Session session = currentSession();
+        if (session != null && session.isOpen()
+                && session.getCacheMode() == CacheMode.GET) {
+            session.setCacheMode(CacheMode.NORMAL);
+        }
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    private Session currentSession() {
+        EntityManagerHolder holder = (EntityManagerHolder)
+                TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        return holder == null ? null : holder.getEntityManager().unwrap(Session.class);
+    }
+}
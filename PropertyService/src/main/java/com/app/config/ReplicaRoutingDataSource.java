@@ -0,0 +1,136 @@
+package com.app.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Read-only side of the routing setup: round-robins over replicas whose
+ * last measured lag is within the limit, and falls back to the primary
+ * when none are.
+ *
+ * Lag comes from SHOW REPLICA STATUS. A database that is not a replica
+ * (no status row) counts as caught up, so two standalone local
+ * databases work for testing; stopped replication (NULL lag) or a failed
+ * check marks the replica unhealthy.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource
+        implements DisposableBean {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final long maxLagSeconds;
+    // replaced as a whole after each check
+    private volatile boolean[] healthy;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<DataSource> replicas,
+                                    long maxLagSeconds) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+        this.healthy = new boolean[replicas.size()];
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        boolean[] healthy = this.healthy;
+        int n = healthy.length;
+        if (n == 0) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), n);
+
+        for (int i = 0; i < n; i++) {
+            int candidate = (start + i) % n;
+            if (healthy[candidate]) {
+                return candidate;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${property.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+
+        boolean[] healthy = new boolean[replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean ok;
+            try {
+                Long lag = lagSeconds(replicas.get(i));
+                ok = lag != null && lag <= maxLagSeconds;
+                if (!ok) {
+                    log.warn("Replica {} lag {}s exceeds {}s, routing reads elsewhere",
+                            i, lag, maxLagSeconds);
+                }
+            } catch (SQLException e) {
+                ok = false;
+                log.warn("Replica {} lag check failed: {}", i, e.getMessage());
+            }
+            healthy[i] = ok;
+        }
+        this.healthy = healthy;
+    }
+
+    // null when replication is broken, 0 for a standalone database
+    private static Long lagSeconds(DataSource replica) throws SQLException {
+
+        try (Connection con = replica.getConnection();
+             Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery("SHOW REPLICA STATUS")) {
+
+            if (!rs.next()) {
+                return 0L;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : lag;
+        }
+    }
+
+    // the pools are not beans of their own
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource ds : replicas) {
+            if (ds instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
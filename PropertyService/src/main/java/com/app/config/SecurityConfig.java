@@ -84,8 +84,14 @@ public class SecurityConfig {
                 ============================= */
                 if (method.equals("GET")
                         && (path.equals("/properties")
+                            || path.equals("/properties/cards")
+                            || path.equals("/properties/facets")
+                            || path.equals("/properties/suggest")
+                            || path.equals("/properties/trending")
                             || path.matches("/properties/\\d+")
-                            || path.startsWith("/properties/search"))) {
+                            || path.matches("/properties/\\d+/similar")
+                            || path.startsWith("/properties/search")
+                            || path.startsWith("/properties/media/"))) {
 
                     filterChain.doFilter(request, response);
                     return;
@@ -1,30 +1,80 @@
 package com.app.controller;
 
 import org.springframework.web.bind.annotation.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.Slice;
+
+import com.app.dto.BulkStatusRequest;
+import com.app.dto.BulkStatusResponse;
+import com.app.dto.ChangeFeedPage;
+import com.app.dto.CursorPage;
+import com.app.dto.FacetCounts;
+import com.app.dto.ImportReport;
+import com.app.dto.PropertyCard;
+import com.app.dto.SlicePage;
+import com.app.dto.StatusCount;
+import com.app.dto.Suggestion;
+import com.app.dto.TrendingProperty;
 import com.app.model.Property;
 import com.app.model.PropertyImage;
+import com.app.model.PropertyStatusHistory;
 import com.app.repository.PropertyRepository;
+import com.app.service.ChangeFeedService;
+import com.app.service.PropertyExportService;
+import com.app.service.PropertyImportService;
 import com.app.service.PropertyService;
+import com.app.service.PropertyStatusHistoryService;
+import com.app.specification.PropertySort;
 
 @RestController
 @RequestMapping("/properties")
 public class PropertyController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_IDS = 5000;
+    private static final int MAX_SIMILAR = 20;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int MAX_TRENDING = 50;
+    private static final int MAX_PREFIX_LENGTH = 50;
+
+    private static final MediaType NDJSON =
+            MediaType.parseMediaType("application/x-ndjson");
+
     private final PropertyRepository propertyRepository;
     private final PropertyService service;
-
-    public PropertyController(PropertyService service, PropertyRepository propertyRepository) {
+    private final PropertyExportService exportService;
+    private final PropertyImportService importService;
+    private final ChangeFeedService changeFeedService;
+    private final PropertyStatusHistoryService historyService;
+
+    public PropertyController(PropertyService service,
+                              PropertyRepository propertyRepository,
+                              PropertyExportService exportService,
+                              PropertyImportService importService,
+                              ChangeFeedService changeFeedService,
+                              PropertyStatusHistoryService historyService) {
         this.service = service;
         this.propertyRepository = propertyRepository;
+        this.exportService = exportService;
+        this.importService = importService;
+        this.changeFeedService = changeFeedService;
+        this.historyService = historyService;
     }
 
     /* ============================
@@ -47,6 +97,20 @@ public class PropertyController {
         }
     }
 
+    private CursorPage<Property> searchPage(
+            String q, String city, String propertyType,
+            Double minPrice, Double maxPrice,
+            String sort, String cursor, int size) {
+        try {
+            return service.searchPropertiesPage(
+                    q, city, propertyType, minPrice, maxPrice,
+                    PropertySort.from(sort), cursor, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     /* ============================
        CUSTOMER (LOGGED IN)
        ✅ SINGLE POST /properties
@@ -86,23 +150,201 @@ public class PropertyController {
     ============================ */
 
     @GetMapping
-    public List<Property> getApproved() {
-        return service.getApprovedProperties();
+    public List<Property> getApproved(
+            @RequestParam(required = false) String sort) {
+
+        if (sort == null) {
+            return service.getApprovedProperties();
+        }
+        try {
+            return service.getApprovedProperties(PropertySort.from(sort));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // Cursor mode: GET /properties?size=20[&sort=newest|price_asc|price_desc|area|price_per_sqft][&cursor=...]
+    @GetMapping(params = "size")
+    public CursorPage<Property> getApprovedPage(
+            @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size) {
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        try {
+            return service.getApprovedPropertiesPage(
+                    PropertySort.from(sort), cursor, pageSize);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // Card projection for listing grids: GET /properties/cards?size=20[&cursor=...]
+    @GetMapping("/cards")
+    public CursorPage<PropertyCard> getCards(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        try {
+            return service.getApprovedCards(cursor, pageSize);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
     public Property getById(@PathVariable Long id) {
-        return service.getPropertyById(id);
+        Property property = service.getPropertyById(id);
+        service.recordView(property);
+        return property;
+    }
+
+    // Most viewed listings lately (views decay with a configurable half-life)
+    @GetMapping("/trending")
+    public List<TrendingProperty> getTrending(
+            @RequestParam(defaultValue = "10") int limit) {
+        return service.getTrendingProperties(Math.max(1, Math.min(limit, MAX_TRENDING)));
+    }
+
+    @GetMapping("/{id}/similar")
+    public List<Property> getSimilar(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "6") int k) {
+
+        try {
+            return service.getSimilarProperties(
+                    id, Math.max(1, Math.min(k, MAX_SIMILAR)));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
     }
 
     @GetMapping("/search")
     public List<Property> searchProperties(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        int top = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // q switches to relevance-ranked keyword search (top "limit" hits);
+        // sort returns the top "limit" rows in that order instead
+        if (sort == null) {
+            return service.searchProperties(
+                    q, city, propertyType, minPrice, maxPrice, top);
+        }
+        return searchPage(q, city, propertyType, minPrice, maxPrice,
+                sort, null, top).items();
+    }
+
+    // Cursor mode: GET /properties/search?size=20[&sort=...][&cursor=...] plus the filters above
+    @GetMapping(value = "/search", params = "size")
+    public CursorPage<Property> searchPropertiesPage(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size) {
+
+        return searchPage(q, city, propertyType, minPrice, maxPrice,
+                sort, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    // Autocomplete for the search box: cities, states, localities, pincodes
+    @GetMapping("/suggest")
+    public List<Suggestion> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit) {
+
+        if (prefix.length() > MAX_PREFIX_LENGTH) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Prefix is too long");
+        }
+        try {
+            return service.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    @GetMapping("/facets")
+    public FacetCounts getFacets(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String propertyType,
             @RequestParam(required = false) Double minPrice,
             @RequestParam(required = false) Double maxPrice) {
 
-        return service.filterProperties(city, propertyType, minPrice, maxPrice);
+        try {
+            return service.getFacets(city, propertyType, minPrice, maxPrice);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    /* ============================
+       CHANGE FEED (LOGGED IN)
+       resume with after = nextOffset
+    ============================ */
+
+    @GetMapping("/changes")
+    public ChangeFeedPage getChanges(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        validateGatewayHeaders(userId, role);
+
+        return changeFeedService.read(
+                Math.max(0, after),
+                Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    /* ============================
+       EXPORT (LOGGED IN)
+       resume with afterId = last id received
+    ============================ */
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        validateGatewayHeaders(userId, role);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gz = new GZIPOutputStream(out, 8192);
+                exportService.exportApproved(afterId, gz);
+                gz.finish();
+            } else {
+                exportService.exportApproved(afterId, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     /* ============================
@@ -118,7 +360,12 @@ public class PropertyController {
         validateGatewayHeaders(userId, role);
         requireAdmin(role);
 
-        return service.approveProperty(id);
+        try {
+            return service.approveProperty(id, userId);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT, e.getMessage());
+        }
     }
 
     @PutMapping("/{id}/reject")
@@ -130,7 +377,132 @@ public class PropertyController {
         validateGatewayHeaders(userId, role);
         requireAdmin(role);
 
-        return service.rejectProperty(id);
+        try {
+            return service.rejectProperty(id, userId);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    @PostMapping("/admin/bulk-status")
+    public BulkStatusResponse bulkStatus(
+            @RequestBody BulkStatusRequest request,
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role) {
+
+        validateGatewayHeaders(userId, role);
+        requireAdmin(role);
+
+        if (request.ids() == null || request.ids().isEmpty()) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "ids are required");
+        }
+
+        if (request.ids().size() > MAX_BULK_IDS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BULK_IDS + " ids per request");
+        }
+
+        try {
+            return service.bulkUpdateStatus(request.ids(), request.status(), userId);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // Bulk import: CSV (with header) or NDJSON, format from ?format= or file name
+    @PostMapping("/admin/import")
+    public ImportReport importProperties(
+            @RequestParam MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role) {
+
+        validateGatewayHeaders(userId, role);
+        requireAdmin(role);
+
+        String name = format != null
+                ? format
+                : String.valueOf(file.getOriginalFilename());
+
+        PropertyImportService.Format importFormat;
+        if (name.toLowerCase().endsWith("csv")) {
+            importFormat = PropertyImportService.Format.CSV;
+        } else if (name.toLowerCase().endsWith("ndjson")
+                || name.toLowerCase().endsWith("jsonl")) {
+            importFormat = PropertyImportService.Format.NDJSON;
+        } else {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "format must be csv or ndjson");
+        }
+
+        try {
+            return importService.importProperties(file.getInputStream(), importFormat);
+        } catch (IOException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Could not read upload", e);
+        }
+    }
+
+    /* ============================
+       MODERATION HISTORY (ADMIN)
+       from inclusive, to exclusive (ISO date-time)
+    ============================ */
+
+    @GetMapping("/admin/status-history")
+    public Slice<PropertyStatusHistory> getStatusHistory(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @RequestParam LocalDateTime from,
+            @RequestParam LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+
+        validateGatewayHeaders(userId, role);
+        requireAdmin(role);
+
+        Pageable pageable = PageRequest.of(
+                page, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        return historyService.findInRange(from, to, pageable);
+    }
+
+    @GetMapping("/admin/status-history/summary")
+    public List<StatusCount> getStatusHistorySummary(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @RequestParam LocalDateTime from,
+            @RequestParam LocalDateTime to) {
+
+        validateGatewayHeaders(userId, role);
+        requireAdmin(role);
+
+        return historyService.summarize(from, to);
+    }
+
+    @GetMapping("/admin/status-history/{propertyId}")
+    public List<PropertyStatusHistory> getPropertyTimeline(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @PathVariable Long propertyId) {
+
+        validateGatewayHeaders(userId, role);
+        requireAdmin(role);
+
+        return historyService.timeline(propertyId);
+    }
+
+    @GetMapping("/admin/cache-stats")
+    public Map<String, Object> getCacheStats(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role) {
+
+        validateGatewayHeaders(userId, role);
+        requireAdmin(role);
+
+        return service.getCacheStats();
     }
 
     /* ============================
@@ -152,6 +524,22 @@ public class PropertyController {
         return service.getPropertiesByStatusPaged(status, pageable);
     }
 
+    // ?slice=true: no total page count, hasNext from one extra row
+    @GetMapping(value = "/admin/list", params = "slice=true")
+    public SlicePage<Property> getAdminPropertiesSlice(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @RequestParam String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        validateGatewayHeaders(userId, role);
+        requireAdmin(role);
+
+        Pageable pageable = PageRequest.of(page, size);
+        return service.getPropertiesByStatusSlice(status, pageable);
+    }
+
     @GetMapping("/admin/pending")
     public Page<Property> getPendingProperties(
             @RequestHeader(value = "X-USER-ID", required = false) Long userId,
@@ -165,4 +553,33 @@ public class PropertyController {
         Pageable pageable = PageRequest.of(page, size);
         return service.getPropertiesByStatusPaged("PENDING", pageable);
     }
+
+    @GetMapping(value = "/admin/pending", params = "slice=true")
+    public SlicePage<Property> getPendingPropertiesSlice(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        validateGatewayHeaders(userId, role);
+        requireAdmin(role);
+
+        Pageable pageable = PageRequest.of(page, size);
+        return service.getPropertiesByStatusSlice("PENDING", pageable);
+    }
+
+    // pending listings flagged as near-duplicates of an existing one
+    @GetMapping("/admin/duplicates")
+    public Slice<Property> getSuspectedDuplicates(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        validateGatewayHeaders(userId, role);
+        requireAdmin(role);
+
+        Pageable pageable = PageRequest.of(page, size);
+        return service.getSuspectedDuplicates(pageable);
+    }
 }
@@ -1,7 +1,9 @@
 package com.app.controller;
 
+import java.io.IOException;
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,8 +11,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.app.model.PropertyImage;
+import com.app.service.ImageStorageService;
+import com.app.service.ImageStorageService.StoredImage;
+import com.app.service.ImageVariantService;
 import com.app.service.PropertyImageService;
 
 //@CrossOrigin(origins = "http://localhost:5173")
@@ -19,9 +26,15 @@ import com.app.service.PropertyImageService;
 public class PropertyImageController {
 
     private final PropertyImageService imageService;
+    private final ImageStorageService storage;
+    private final ImageVariantService variants;
 
-    public PropertyImageController(PropertyImageService imageService) {
+    public PropertyImageController(PropertyImageService imageService,
+                                   ImageStorageService storage,
+                                   ImageVariantService variants) {
         this.imageService = imageService;
+        this.storage = storage;
+        this.variants = variants;
     }
 
     // Upload image (URL-based)
@@ -34,6 +47,40 @@ public class PropertyImageController {
         return imageService.uploadImage(propertyId, imageUrl, isPrimary);
     }
 
+    // Upload image bytes (multipart "file"); stored by content hash
+    @PostMapping("/{propertyId}/images/upload")
+    public PropertyImage uploadImageFile(
+            @PathVariable Long propertyId,
+            @RequestParam MultipartFile file,
+            @RequestParam(defaultValue = "false") Boolean isPrimary) {
+
+        // checked before storing, so a bad id leaves no orphan file behind
+        if (!imageService.propertyExists(propertyId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found");
+        }
+
+        StoredImage stored;
+        try {
+            stored = storage.store(file.getInputStream());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.UNSUPPORTED_MEDIA_TYPE, e.getMessage());
+        } catch (IOException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.INTERNAL_SERVER_ERROR, "Could not store image", e);
+        }
+
+        PropertyImage image = imageService.uploadImage(
+                propertyId,
+                storage.urlOf(stored.fileName()),
+                stored.contentHash(),
+                isPrimary);
+
+        // thumbnails are produced in the background after the row is committed
+        variants.submit(image.getId());
+        return image;
+    }
+
     // Get images of a property
     @GetMapping("/{propertyId}/images")
     public List<PropertyImage> getImages(@PathVariable Long propertyId) {
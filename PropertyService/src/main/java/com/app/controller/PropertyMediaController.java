@@ -0,0 +1,207 @@
+package com.app.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.service.ImageStorageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves stored images without copying them through the heap: Tomcat
+ * sendfile when the connector offers it, FileChannel.transferTo otherwise.
+ * Files are content-addressed, so the hash is a strong ETag and the
+ * response can be cached forever.
+ */
+@RestController
+@RequestMapping("/properties")
+public class PropertyMediaController {
+
+    private static final String CACHE_FOREVER = "public, max-age=31536000, immutable";
+
+    // Tomcat request attributes for sendfile (see DefaultServlet)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // below this, a plain write is cheaper than handing off to the poller
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private final ImageStorageService storage;
+
+    public PropertyMediaController(ImageStorageService storage) {
+        this.storage = storage;
+    }
+
+    @GetMapping("/media/{fileName:.+}")
+    public void serve(
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        if (!storage.isValidName(fileName)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Path path = storage.resolve(fileName);
+        long length;
+        try {
+            length = Files.size(path);
+        } catch (NoSuchFileException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = "\"" + fileName.substring(0, fileName.lastIndexOf('.')) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_FOREVER);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(contentType(fileName));
+
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+
+            long[] bounds = parseRange(range, length);
+
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))
+                && count >= SENDFILE_MIN_BYTES) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long n = file.transferTo(position, remaining, out);
+                if (n <= 0) {
+                    break;
+                }
+                position += n;
+                remaining -= n;
+            }
+        }
+    }
+
+    /* ============================
+       HELPERS
+    ============================ */
+
+    private static boolean etagMatches(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // {start, end} for one satisfiable range, {} to ignore the header
+    // (malformed or multiple ranges: serve the whole file), null if unsatisfiable
+    private static long[] parseRange(String header, long length) {
+
+        if (!header.startsWith("bytes=") || header.contains(",")) {
+            return new long[0];
+        }
+
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+
+        try {
+            String from = spec.substring(0, dash).trim();
+            String to = spec.substring(dash + 1).trim();
+
+            if (from.isEmpty()) {
+                // suffix range: last N bytes
+                long suffix = Long.parseLong(to);
+                if (suffix <= 0 || length == 0) {
+                    return null;
+                }
+                return new long[] { Math.max(0, length - suffix), length - 1 };
+            }
+
+            long start = Long.parseLong(from);
+            long last = to.isEmpty() ? Long.MAX_VALUE : Long.parseLong(to);
+
+            // last-byte-pos below first-byte-pos is invalid syntax (RFC 9110 14.1.2)
+            if (last < start) {
+                return new long[0];
+            }
+            if (start >= length) {
+                return null;
+            }
+            return new long[] { start, Math.min(last, length - 1) };
+
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private static String contentType(String fileName) {
+        if (fileName.endsWith(".png")) return "image/png";
+        if (fileName.endsWith(".webp")) return "image/webp";
+        return "image/jpeg";
+    }
+}
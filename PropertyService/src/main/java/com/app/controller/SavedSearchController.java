@@ -0,0 +1,88 @@
+package com.app.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.app.dto.SavedSearchRequest;
+import com.app.model.SavedSearch;
+import com.app.model.SavedSearchNotification;
+import com.app.service.SavedSearchService;
+
+@RestController
+@RequestMapping("/properties/saved-searches")
+public class SavedSearchController {
+
+    private static final int MAX_NOTIFICATIONS = 100;
+
+    private final SavedSearchService service;
+
+    public SavedSearchController(SavedSearchService service) {
+        this.service = service;
+    }
+
+    private void validateGatewayHeaders(Long userId, String role) {
+        if (userId == null || role == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.UNAUTHORIZED,
+                    "Missing gateway authentication headers");
+        }
+    }
+
+    @PostMapping
+    public SavedSearch create(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @RequestBody SavedSearchRequest request) {
+
+        validateGatewayHeaders(userId, role);
+
+        try {
+            return service.create(userId, request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping
+    public List<SavedSearch> list(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role) {
+
+        validateGatewayHeaders(userId, role);
+        return service.list(userId);
+    }
+
+    @DeleteMapping("/{id}")
+    public void delete(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @PathVariable Long id) {
+
+        validateGatewayHeaders(userId, role);
+        service.delete(userId, id);
+    }
+
+    // Inbox: every match, newest first (sent or still queued)
+    @GetMapping("/notifications")
+    public List<SavedSearchNotification> notifications(
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId,
+            @RequestHeader(value = "X-USER-ROLE", required = false) String role,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        validateGatewayHeaders(userId, role);
+        return service.notifications(
+                userId, Math.max(1, Math.min(limit, MAX_NOTIFICATIONS)));
+    }
+}
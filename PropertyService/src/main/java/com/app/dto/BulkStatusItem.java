@@ -0,0 +1,14 @@
+package com.app.dto;
+
+/**
+ * Outcome for one id of a bulk status change. {@code currentStatus} is
+ * the status that blocked the transition, if any.
+ */
+public record BulkStatusItem(Long id, Outcome outcome, String currentStatus) {
+
+    public enum Outcome {
+        TRANSITIONED,
+        NOT_FOUND,
+        WRONG_STATE
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.dto;
+
+import java.util.List;
+
+/**
+ * Body of POST /properties/admin/bulk-status.
+ */
+public record BulkStatusRequest(List<Long> ids, String status) {
+}
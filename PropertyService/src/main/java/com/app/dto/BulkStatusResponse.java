@@ -0,0 +1,14 @@
+package com.app.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk status change, per id in request order.
+ */
+public record BulkStatusResponse(
+        String status,
+        int transitioned,
+        int notFound,
+        int wrongState,
+        List<BulkStatusItem> results) {
+}
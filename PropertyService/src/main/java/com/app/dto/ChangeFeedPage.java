@@ -0,0 +1,12 @@
+package com.app.dto;
+
+import java.util.List;
+
+import com.app.outbox.OutboxMessage;
+
+/**
+ * One change-feed page. Resume with {@code after = nextOffset}; when no
+ * events are returned {@code nextOffset} echoes the requested offset.
+ */
+public record ChangeFeedPage(List<OutboxMessage> events, long nextOffset) {
+}
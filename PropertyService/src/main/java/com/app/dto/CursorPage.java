@@ -0,0 +1,9 @@
+package com.app.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page. {@code nextCursor} is null on the last page.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+}
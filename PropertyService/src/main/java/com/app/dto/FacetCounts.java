@@ -0,0 +1,15 @@
+package com.app.dto;
+
+import java.util.Map;
+
+/**
+ * Facet counts for a filter set. Each facet ignores its own filter, so
+ * the counts show what selecting another value would return; {@code total}
+ * applies every filter.
+ */
+public record FacetCounts(
+        long total,
+        Map<String, Long> cities,
+        Map<String, Long> propertyTypes,
+        Map<String, Long> priceBuckets) {
+}
@@ -0,0 +1,18 @@
+package com.app.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Errors are reported per input line and
+ * capped; {@code errorsTruncated} tells whether some were left out.
+ */
+public record ImportReport(
+        long totalRows,
+        long imported,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated) {
+
+    public record RowError(long line, String message) {
+    }
+}
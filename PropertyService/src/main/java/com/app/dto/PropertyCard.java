@@ -0,0 +1,18 @@
+package com.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Listing-card read model: just what PropertyCard.jsx renders,
+ * with the primary image resolved to its thumbnail (or original) URL.
+ */
+public record PropertyCard(
+        Long id,
+        String title,
+        Double price,
+        String city,
+        String propertyType,
+        Integer areaSqft,
+        String primaryImageUrl,
+        LocalDateTime createdAt) {
+}
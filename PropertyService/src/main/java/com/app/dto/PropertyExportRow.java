@@ -0,0 +1,23 @@
+package com.app.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One NDJSON line of the catalog export (scalar columns only).
+ */
+public record PropertyExportRow(
+        Long id,
+        String title,
+        String description,
+        Double price,
+        Integer areaSqft,
+        String propertyType,
+        String addressLine,
+        String city,
+        String state,
+        String pincode,
+        Long ownerId,
+        String status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
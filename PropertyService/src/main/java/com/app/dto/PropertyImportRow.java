@@ -0,0 +1,20 @@
+package com.app.dto;
+
+import java.util.List;
+
+/**
+ * One listing of a bulk import (an NDJSON line or a CSV record).
+ */
+public record PropertyImportRow(
+        String title,
+        String description,
+        Double price,
+        Integer areaSqft,
+        String propertyType,
+        String addressLine,
+        String city,
+        String state,
+        String pincode,
+        Long ownerId,
+        List<String> imageUrls) {
+}
@@ -0,0 +1,12 @@
+package com.app.dto;
+
+/**
+ * Criteria of a saved search; null fields match any value.
+ */
+public record SavedSearchRequest(
+        String city,
+        String propertyType,
+        Double minPrice,
+        Double maxPrice,
+        String keywords) {
+}
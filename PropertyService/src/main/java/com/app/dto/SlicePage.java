@@ -0,0 +1,15 @@
+package com.app.dto;
+
+import java.util.List;
+
+/**
+ * Offset page without a count query: {@code hasNext} comes from fetching
+ * one extra row, {@code total} from the maintained per-status counters.
+ */
+public record SlicePage<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext,
+        long total) {
+}
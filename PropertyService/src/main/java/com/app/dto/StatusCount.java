@@ -0,0 +1,4 @@
+package com.app.dto;
+
+public record StatusCount(String status, long total) {
+}
@@ -0,0 +1,8 @@
+package com.app.dto;
+
+/**
+ * One autocomplete entry; {@code kind} is CITY, STATE, LOCALITY or
+ * PINCODE and {@code count} the number of approved listings.
+ */
+public record Suggestion(String text, String kind, long count) {
+}
@@ -0,0 +1,10 @@
+package com.app.dto;
+
+import com.app.model.Property;
+
+/**
+ * One entry of /properties/trending; {@code recentViews} is the
+ * time-decayed view estimate the ranking is based on.
+ */
+public record TrendingProperty(Property property, long recentViews) {
+}
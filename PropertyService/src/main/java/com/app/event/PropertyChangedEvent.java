@@ -0,0 +1,29 @@
+package com.app.event;
+
+import java.util.List;
+
+import com.app.model.Property;
+
+/**
+ * Published after properties are created or change status.
+ * {@code previousStatus} is null for newly added properties; all
+ * properties in one event share the same previous status.
+ * {@code actorId} is the admin behind a status change, if known.
+ */
+public record PropertyChangedEvent(
+        List<Property> properties,
+        String previousStatus,
+        Long actorId) {
+
+    public PropertyChangedEvent(List<Property> properties, String previousStatus) {
+        this(properties, previousStatus, null);
+    }
+
+    public static PropertyChangedEvent of(Property property, String previousStatus) {
+        return new PropertyChangedEvent(List.of(property), previousStatus, null);
+    }
+
+    public static PropertyChangedEvent of(Property property, String previousStatus, Long actorId) {
+        return new PropertyChangedEvent(List.of(property), previousStatus, actorId);
+    }
+}
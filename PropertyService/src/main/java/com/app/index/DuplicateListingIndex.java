@@ -0,0 +1,193 @@
+package com.app.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.app.event.PropertyChangedEvent;
+import com.app.model.Property;
+import com.app.repository.PropertyRepository;
+
+/**
+ * LSH index over listing SimHashes for near-duplicate detection.
+ *
+ * The 64-bit hash is cut into 4 bands of 16 bits, each with its own
+ * bucket table. Two hashes within {@value #MAX_DISTANCE} bits of each
+ * other must agree on at least one whole band (pigeonhole), so looking
+ * up the 4 buckets finds every candidate without comparing against the
+ * catalog. Holds PENDING and APPROVED listings; rejected ones drop out.
+ */
+@Component
+public class DuplicateListingIndex {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(DuplicateListingIndex.class);
+
+    static final int MAX_DISTANCE = 3;
+
+    private static final int BANDS = MAX_DISTANCE + 1;
+    private static final int BAND_BITS = 64 / BANDS;
+
+    private final PropertyRepository repository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @SuppressWarnings("unchecked")
+    private final Map<Integer, List<Long>>[] buckets = new Map[BANDS];
+    private final Map<Long, Long> hashById = new HashMap<>();
+
+    private final PendingChanges pending = new PendingChanges();
+    private volatile boolean ready;
+
+    public DuplicateListingIndex(
+            PropertyRepository repository,
+            @Value("${property.duplicates.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+        for (int b = 0; b < BANDS; b++) {
+            buckets[b] = new HashMap<>();
+        }
+    }
+
+    /* ======================
+       LIFECYCLE
+    ====================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+
+        if (!enabled) {
+            log.info("Duplicate listing detection disabled");
+            return;
+        }
+
+        List<Property> live = repository.findByStatusNot("REJECTED");
+
+        lock.writeLock().lock();
+        try {
+            // rows from before fingerprints were stored are hashed here
+            for (Property p : live) {
+                put(p.getId(), p.getSimhash() != null
+                        ? p.getSimhash()
+                        : ListingFingerprint.simhash(p));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        pending.release(this::apply);
+        ready = true;
+
+        log.info("Duplicate listing index loaded {} listings", live.size());
+    }
+
+    // events committed before the snapshot is loaded are held, then replayed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (enabled && pending.admit(event)) {
+            apply(event);
+        }
+    }
+
+    private void apply(PropertyChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            for (Property p : event.properties()) {
+                if ("REJECTED".equals(p.getStatus())) {
+                    remove(p.getId());
+                } else if (p.getSimhash() != null) {
+                    put(p.getId(), p.getSimhash());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ======================
+       QUERY
+    ====================== */
+
+    // Fingerprints the listing and flags the closest near-duplicate, if any
+    public void fingerprint(Property p) {
+
+        long hash = ListingFingerprint.simhash(p);
+        p.setSimhash(hash);
+
+        if (ready) {
+            p.setDuplicateOfId(closest(hash));
+        }
+    }
+
+    // Closest indexed listing within MAX_DISTANCE bits, or null
+    public Long closest(long hash) {
+
+        lock.readLock().lock();
+        try {
+            Long best = null;
+            int bestDistance = MAX_DISTANCE + 1;
+
+            for (int b = 0; b < BANDS; b++) {
+                List<Long> ids = buckets[b].get(band(hash, b));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    int d = ListingFingerprint.distance(hash, hashById.get(id));
+                    if (d < bestDistance
+                            || (d == bestDistance && best != null && id < best)) {
+                        best = id;
+                        bestDistance = d;
+                    }
+                }
+            }
+            return best;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ======================
+       MAINTENANCE (write lock held)
+    ====================== */
+
+    private void put(Long id, long hash) {
+        remove(id);
+        hashById.put(id, hash);
+        for (int b = 0; b < BANDS; b++) {
+            buckets[b].computeIfAbsent(band(hash, b), k -> new ArrayList<>(2)).add(id);
+        }
+    }
+
+    private void remove(Long id) {
+        Long hash = hashById.remove(id);
+        if (hash == null) {
+            return;
+        }
+        for (int b = 0; b < BANDS; b++) {
+            int key = band(hash, b);
+            List<Long> ids = buckets[b].get(key);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                buckets[b].remove(key);
+            }
+        }
+    }
+
+    private static int band(long hash, int b) {
+        return (int) ((hash >>> (b * BAND_BITS)) & ((1L << BAND_BITS) - 1));
+    }
+}
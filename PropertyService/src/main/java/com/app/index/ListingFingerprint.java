@@ -0,0 +1,83 @@
+package com.app.index;
+
+import java.util.Locale;
+
+import com.app.model.Property;
+
+/**
+ * 64-bit SimHash of a listing's text. Near-identical listings (a few
+ * words edited) differ in only a few bits, so similarity becomes a
+ * Hamming distance between two longs.
+ *
+ * Features are the word tokens and word bigrams of title and description,
+ * plus the address tokens (address line, city, pincode) at a higher
+ * weight since a repost rarely changes the address.
+ */
+public final class ListingFingerprint {
+
+    private static final int TEXT_WEIGHT = 1;
+    private static final int ADDRESS_WEIGHT = 3;
+
+    private ListingFingerprint() {
+    }
+
+    public static long simhash(Property p) {
+
+        int[] votes = new int[64];
+
+        addText(votes, p.getTitle(), TEXT_WEIGHT);
+        addText(votes, p.getDescription(), TEXT_WEIGHT);
+        addText(votes, p.getAddressLine(), ADDRESS_WEIGHT);
+        addText(votes, p.getCity(), ADDRESS_WEIGHT);
+        addText(votes, p.getPincode(), ADDRESS_WEIGHT);
+
+        long hash = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                hash |= 1L << bit;
+            }
+        }
+        return hash;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void addText(int[] votes, String text, int weight) {
+
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        String previous = null;
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            vote(votes, hash(token), weight);
+            if (previous != null) {
+                vote(votes, hash(previous + ' ' + token), weight);
+            }
+            previous = token;
+        }
+    }
+
+    private static void vote(int[] votes, long featureHash, int weight) {
+        for (int bit = 0; bit < 64; bit++) {
+            votes[bit] += ((featureHash >>> bit) & 1) != 0 ? weight : -weight;
+        }
+    }
+
+    // FNV-1a over the chars, then the SplitMix64 finalizer to spread the bits
+    private static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
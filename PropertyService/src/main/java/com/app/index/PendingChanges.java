@@ -0,0 +1,46 @@
+package com.app.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.app.event.PropertyChangedEvent;
+
+/**
+ * Change events an index receives while it loads its database snapshot.
+ *
+ * Requests (and so commits) are served before ApplicationReadyEvent, and
+ * a commit can land between the snapshot query and the index going live.
+ * Such events are held and replayed in arrival order once the snapshot
+ * is in; replaying one the snapshot already reflects writes the same
+ * state again.
+ */
+final class PendingChanges {
+
+    private final List<PropertyChangedEvent> held = new ArrayList<>();
+    private boolean live;
+
+    // true if the caller should apply the event now, false if it was held
+    synchronized boolean admit(PropertyChangedEvent event) {
+        if (live) {
+            return true;
+        }
+        held.add(event);
+        return false;
+    }
+
+    // hold new events again, e.g. while the index is rebuilt
+    synchronized void hold() {
+        live = false;
+    }
+
+    // applies what was held, then lets events through directly
+    synchronized void release(Consumer<PropertyChangedEvent> apply) {
+        try {
+            held.forEach(apply);
+        } finally {
+            held.clear();
+            live = true;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.app.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Immutable centered interval tree over closed price ranges; a stabbing
+ * query reports every range containing a price in O(log n + matches).
+ * Open bounds are stored as infinities.
+ */
+final class PriceIntervalTree {
+
+    record Interval(long id, double low, double high) {
+    }
+
+    private static final class Node {
+        double center;
+        Interval[] byLow;       // intervals containing center, low ascending
+        Interval[] byHighDesc;  // the same, high descending
+        Node left;
+        Node right;
+    }
+
+    private final Node root;
+    private final int size;
+
+    private PriceIntervalTree(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    static PriceIntervalTree build(List<Interval> intervals) {
+        return new PriceIntervalTree(node(intervals), intervals.size());
+    }
+
+    int size() {
+        return size;
+    }
+
+    void stab(double x, LongConsumer sink) {
+        Node node = root;
+        while (node != null) {
+            if (x < node.center) {
+                for (Interval i : node.byLow) {
+                    if (i.low() > x) {
+                        break;
+                    }
+                    sink.accept(i.id());
+                }
+                node = node.left;
+            } else if (x > node.center) {
+                for (Interval i : node.byHighDesc) {
+                    if (i.high() < x) {
+                        break;
+                    }
+                    sink.accept(i.id());
+                }
+                node = node.right;
+            } else {
+                for (Interval i : node.byLow) {
+                    sink.accept(i.id());
+                }
+                return;
+            }
+        }
+    }
+
+    private static Node node(List<Interval> intervals) {
+
+        if (intervals.isEmpty()) {
+            return null;
+        }
+
+        Node node = new Node();
+        node.center = medianEndpoint(intervals);
+
+        List<Interval> left = new ArrayList<>();
+        List<Interval> right = new ArrayList<>();
+        List<Interval> here = new ArrayList<>();
+
+        for (Interval i : intervals) {
+            if (i.high() < node.center) {
+                left.add(i);
+            } else if (i.low() > node.center) {
+                right.add(i);
+            } else {
+                here.add(i);
+            }
+        }
+
+        node.byLow = here.toArray(Interval[]::new);
+        Arrays.sort(node.byLow, Comparator.comparingDouble(Interval::low));
+        node.byHighDesc = here.toArray(Interval[]::new);
+        Arrays.sort(node.byHighDesc, Comparator.comparingDouble(Interval::high).reversed());
+
+        node.left = node(left);
+        node.right = node(right);
+        return node;
+    }
+
+    // the interval owning the median stays at this node, so each level shrinks
+    private static double medianEndpoint(List<Interval> intervals) {
+        double[] points = new double[intervals.size() * 2];
+        int n = 0;
+        for (Interval i : intervals) {
+            if (Double.isFinite(i.low())) {
+                points[n++] = i.low();
+            }
+            if (Double.isFinite(i.high())) {
+                points[n++] = i.high();
+            }
+        }
+        if (n == 0) {
+            return 0;
+        }
+        Arrays.sort(points, 0, n);
+        return points[n / 2];
+    }
+}
@@ -0,0 +1,349 @@
+package com.app.index;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.app.event.PropertyChangedEvent;
+import com.app.model.Property;
+import com.app.model.SearchKeys;
+import com.app.repository.PropertyRepository;
+import com.app.specification.PropertySpecification;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * On-disk Lucene index over title and description of APPROVED properties.
+ * Every query term must match the title or the description; hits are
+ * ranked by BM25 with title matches boosted. City, type and price are
+ * non-scoring filters with the same semantics as PropertySpecification.
+ *
+ * The index survives restarts, so it can miss changes (a crash between
+ * the database commit and the index commit, or a failed update). Each
+ * document stores the row's updated_at; on startup, and whenever an
+ * update failed, the index is reconciled against the APPROVED rows and
+ * only the difference is rewritten.
+ */
+@Component
+public class PropertyFullTextIndex {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(PropertyFullTextIndex.class);
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String CITY = "city";
+    private static final String TYPE = "type";
+    private static final String PRICE = "price";
+    private static final String UPDATED = "updated";
+
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final PropertyRepository repository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searchers;
+
+    private final PendingChanges pending = new PendingChanges();
+    private volatile boolean dirty;
+
+    public PropertyFullTextIndex(
+            PropertyRepository repository,
+            @Value("${property.fulltext.dir:data/fulltext-index}") String dir)
+            throws IOException {
+
+        this.repository = repository;
+
+        Path path = Files.createDirectories(Path.of(dir));
+        this.directory = FSDirectory.open(path);
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+
+        this.writer = new IndexWriter(directory, config);
+        this.searchers = new SearcherManager(writer, new SearcherFactory());
+    }
+
+    /* ======================
+       LIFECYCLE
+    ====================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    // Retries a reconciliation after a failed update
+    @Scheduled(fixedDelayString = "${property.fulltext.repair-interval-ms:60000}")
+    public void repairIfDirty() {
+        if (dirty) {
+            log.warn("Full-text index marked dirty, reconciling");
+            reconcile();
+        }
+    }
+
+    // Rewrites documents that are missing or older than their row and
+    // deletes those no longer APPROVED; changes committed meanwhile are
+    // held and applied afterwards
+    public synchronized void reconcile() {
+
+        pending.hold();
+        dirty = false;
+        try {
+            List<Property> approved =
+                    repository.findAll(PropertySpecification.isApproved());
+
+            Map<String, Long> indexed = indexedVersions();
+            int written = 0;
+
+            for (Property p : approved) {
+                Long stored = indexed.remove(String.valueOf(p.getId()));
+                if (stored == null || stored != version(p)) {
+                    writer.updateDocument(idTerm(p.getId()), toDocument(p));
+                    written++;
+                }
+            }
+            for (String id : indexed.keySet()) {
+                writer.deleteDocuments(new Term(ID, id));
+            }
+            commit();
+
+            log.info("Full-text index reconciled: {} approved, {} rewritten, {} removed",
+                    approved.size(), written, indexed.size());
+
+        } catch (IOException | RuntimeException e) {
+            dirty = true;
+            log.error("Full-text index reconciliation failed", e);
+        } finally {
+            pending.release(this::apply);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (pending.admit(event)) {
+            apply(event);
+        }
+    }
+
+    private void apply(PropertyChangedEvent event) {
+
+        try {
+            for (Property p : event.properties()) {
+                if ("APPROVED".equals(p.getStatus())) {
+                    writer.updateDocument(idTerm(p.getId()), toDocument(p));
+                } else {
+                    writer.deleteDocuments(idTerm(p.getId()));
+                }
+            }
+            commit();
+
+        } catch (IOException e) {
+            // the next repair run reconciles against the database
+            dirty = true;
+            log.error("Full-text index update failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searchers.close();
+        writer.close();
+        directory.close();
+    }
+
+    /* ======================
+       QUERY
+    ====================== */
+
+    // Ids of the best matches, most relevant first
+    public List<Long> search(
+            String text,
+            String city,
+            String propertyType,
+            Double minPrice,
+            Double maxPrice,
+            int limit) {
+
+        Set<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+
+        for (String term : terms) {
+            query.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(
+                            new TermQuery(new Term(TITLE, term)), TITLE_BOOST),
+                         Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, term)), Occur.SHOULD)
+                    .build(), Occur.MUST);
+        }
+
+        if (city != null && !city.isBlank()) {
+            query.add(new TermQuery(new Term(CITY, SearchKeys.city(city))), Occur.FILTER);
+        }
+
+        if (propertyType != null && !propertyType.isBlank()) {
+            query.add(new TermQuery(new Term(TYPE, SearchKeys.type(propertyType))), Occur.FILTER);
+        }
+
+        if (minPrice != null || maxPrice != null) {
+            query.add(DoublePoint.newRangeQuery(
+                    PRICE,
+                    minPrice == null ? Double.NEGATIVE_INFINITY : minPrice,
+                    maxPrice == null ? Double.POSITIVE_INFINITY : maxPrice),
+                    Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searchers.acquire();
+            try {
+                TopDocs top = searcher.search(query.build(), limit);
+
+                List<Long> ids = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc hit : top.scoreDocs) {
+                    ids.add(Long.valueOf(
+                            searcher.storedFields().document(hit.doc).get(ID)));
+                }
+                return ids;
+
+            } finally {
+                searchers.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /* ======================
+       HELPERS
+    ====================== */
+
+    private void commit() throws IOException {
+        writer.commit();
+        searchers.maybeRefresh();
+    }
+
+    // id -> stored row version of every live document
+    private Map<String, Long> indexedVersions() throws IOException {
+
+        searchers.maybeRefreshBlocking();
+        IndexSearcher searcher = searchers.acquire();
+        try {
+            Map<String, Long> versions = new HashMap<>();
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                StoredFields fields = leaf.reader().storedFields();
+                for (int doc = 0; doc < leaf.reader().maxDoc(); doc++) {
+                    if (liveDocs != null && !liveDocs.get(doc)) {
+                        continue;
+                    }
+                    Document stored = fields.document(doc);
+                    // documents from before versions were stored get rewritten
+                    versions.put(stored.get(ID), stored.getField(UPDATED) == null
+                            ? -1L
+                            : stored.getField(UPDATED).numericValue().longValue());
+                }
+            }
+            return versions;
+        } finally {
+            searchers.release(searcher);
+        }
+    }
+
+    // updated_at in millis, matching what the database round-trips
+    private static long version(Property p) {
+        LocalDateTime updated = p.getUpdatedAt();
+        return updated == null ? 0 : updated.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private Document toDocument(Property p) {
+
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(p.getId()), Field.Store.YES));
+        doc.add(new TextField(TITLE, nullToEmpty(p.getTitle()), Field.Store.NO));
+        doc.add(new TextField(DESCRIPTION, nullToEmpty(p.getDescription()), Field.Store.NO));
+        doc.add(new StringField(CITY, SearchKeys.city(p.getCity()), Field.Store.NO));
+        doc.add(new StringField(TYPE, SearchKeys.type(p.getPropertyType()), Field.Store.NO));
+        doc.add(new DoublePoint(PRICE, p.getPrice()));
+        doc.add(new StoredField(UPDATED, version(p)));
+        return doc;
+    }
+
+    private Set<String> analyze(String text) {
+
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, String.valueOf(id));
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+}
@@ -0,0 +1,438 @@
+package com.app.index;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.app.dto.FacetCounts;
+import com.app.event.PropertyChangedEvent;
+import com.app.model.Property;
+import com.app.model.SearchKeys;
+import com.app.repository.PropertyRepository;
+import com.app.specification.PropertySpecification;
+
+/**
+ * In-process index of APPROVED properties for the public search filters.
+ *
+ * Each property occupies a slot. City and type are per-value bitmaps over
+ * slots; price is a slot array kept sorted by price for range scans.
+ * Results match {@link PropertySpecification#hasCity},
+ * {@link PropertySpecification#hasPropertyType} and
+ * {@link PropertySpecification#priceBetween}.
+ *
+ * The same bitmaps, plus one per price bucket, double as incrementally
+ * maintained facet counters.
+ */
+@Component
+public class PropertySearchIndex {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(PropertySearchIndex.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final PropertyRepository repository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /* ---------- per slot ---------- */
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private double[] prices = new double[INITIAL_CAPACITY];
+    private String[] cities = new String[INITIAL_CAPACITY];
+    private String[] types = new String[INITIAL_CAPACITY];
+
+    private final BitSet live = new BitSet();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private int nextSlot;
+
+    /* ---------- predicates ---------- */
+    private final Map<String, BitSet> byCity = new HashMap<>();
+    private final Map<String, BitSet> byType = new HashMap<>();
+    private final Map<String, String> cityLabels = new HashMap<>();
+
+    // bucket i holds prices in [edges[i-1], edges[i]); the last is open-ended
+    private final double[] bucketEdges;
+    private final BitSet[] byPriceBucket;
+
+    // slots ordered by price
+    private double[] sortedPrices = new double[INITIAL_CAPACITY];
+    private int[] sortedSlots = new int[INITIAL_CAPACITY];
+    private int sortedCount;
+
+    private final PendingChanges pending = new PendingChanges();
+    private volatile boolean ready;
+
+    public PropertySearchIndex(
+            PropertyRepository repository,
+            @Value("${property.search-index.enabled:true}") boolean enabled,
+            @Value("${property.facets.price-buckets:2500000,5000000,10000000,20000000}")
+            double[] bucketEdges) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.bucketEdges = bucketEdges.clone();
+        Arrays.sort(this.bucketEdges);
+
+        this.byPriceBucket = new BitSet[this.bucketEdges.length + 1];
+        for (int i = 0; i < byPriceBucket.length; i++) {
+            byPriceBucket[i] = new BitSet();
+        }
+    }
+
+    /* ======================
+       LIFECYCLE
+    ====================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+
+        if (!enabled) {
+            log.info("Property search index disabled, using database filters");
+            return;
+        }
+
+        List<Property> approved =
+                repository.findAll(PropertySpecification.isApproved());
+
+        lock.writeLock().lock();
+        try {
+            approved.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        pending.release(this::apply);
+        ready = true;
+
+        log.info("Property search index loaded {} approved properties", approved.size());
+    }
+
+    // events committed before the snapshot is loaded are held, then replayed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (enabled && pending.admit(event)) {
+            apply(event);
+        }
+    }
+
+    private void apply(PropertyChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            for (Property p : event.properties()) {
+                if ("APPROVED".equals(p.getStatus())) {
+                    put(p);
+                } else {
+                    remove(p.getId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /* ======================
+       QUERY
+    ====================== */
+
+    // Matching property ids in ascending order
+    public List<Long> search(
+            String city,
+            String propertyType,
+            Double minPrice,
+            Double maxPrice) {
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) live.clone();
+
+            if (city != null && !city.isBlank()) {
+                BitSet bits = byCity.get(SearchKeys.city(city));
+                if (bits == null) {
+                    return List.of();
+                }
+                candidates.and(bits);
+            }
+
+            if (propertyType != null && !propertyType.isBlank()) {
+                BitSet bits = byType.get(SearchKeys.type(propertyType));
+                if (bits == null) {
+                    return List.of();
+                }
+                candidates.and(bits);
+            }
+
+            long[] matches;
+
+            if (minPrice == null && maxPrice == null) {
+                matches = new long[candidates.cardinality()];
+                int n = 0;
+                for (int slot = candidates.nextSetBit(0);
+                     slot >= 0;
+                     slot = candidates.nextSetBit(slot + 1)) {
+                    matches[n++] = ids[slot];
+                }
+            } else {
+                int from = minPrice == null ? 0 : lowerBound(minPrice);
+                int to = maxPrice == null ? sortedCount : upperBound(maxPrice);
+
+                matches = new long[Math.max(0, to - from)];
+                int n = 0;
+                for (int i = from; i < to; i++) {
+                    int slot = sortedSlots[i];
+                    if (candidates.get(slot)) {
+                        matches[n++] = ids[slot];
+                    }
+                }
+                matches = Arrays.copyOf(matches, n);
+            }
+
+            Arrays.sort(matches);
+            return Arrays.stream(matches).boxed().toList();
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Counts per city / type / price bucket in one pass over the bitmaps
+    public FacetCounts facets(
+            String city,
+            String propertyType,
+            Double minPrice,
+            Double maxPrice) {
+
+        lock.readLock().lock();
+        try {
+            BitSet cityBits = filterBits(byCity, city, SearchKeys.city(city));
+            BitSet typeBits = filterBits(byType, propertyType, SearchKeys.type(propertyType));
+            BitSet priceBits = priceBits(minPrice, maxPrice);
+
+            BitSet all = intersect(cityBits, typeBits, priceBits);
+
+            Map<String, Long> cities = new HashMap<>();
+            BitSet cityBase = intersect(typeBits, priceBits);
+            byCity.forEach((key, bits) ->
+                    addCount(cities, cityLabels.get(key), cityBase, bits));
+
+            Map<String, Long> types = new HashMap<>();
+            BitSet typeBase = intersect(cityBits, priceBits);
+            byType.forEach((key, bits) ->
+                    addCount(types, key, typeBase, bits));
+
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            BitSet bucketBase = intersect(cityBits, typeBits);
+            for (int i = 0; i < byPriceBucket.length; i++) {
+                BitSet bits = (BitSet) byPriceBucket[i].clone();
+                bits.and(bucketBase);
+                buckets.put(bucketLabel(i), (long) bits.cardinality());
+            }
+
+            return new FacetCounts(
+                    all.cardinality(),
+                    byCountDesc(cities),
+                    byCountDesc(types),
+                    buckets);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ======================
+       FACET HELPERS (read lock held)
+    ====================== */
+
+    // null when the filter is absent, empty when nothing matches it
+    private static BitSet filterBits(Map<String, BitSet> bitmaps, String raw, String key) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        BitSet bits = bitmaps.get(key);
+        return bits == null ? new BitSet() : bits;
+    }
+
+    private BitSet priceBits(Double minPrice, Double maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        int from = minPrice == null ? 0 : lowerBound(minPrice);
+        int to = maxPrice == null ? sortedCount : upperBound(maxPrice);
+
+        BitSet bits = new BitSet();
+        for (int i = from; i < to; i++) {
+            bits.set(sortedSlots[i]);
+        }
+        return bits;
+    }
+
+    private BitSet intersect(BitSet... filters) {
+        BitSet result = (BitSet) live.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static void addCount(Map<String, Long> counts, String label, BitSet base, BitSet bits) {
+        BitSet matches = (BitSet) bits.clone();
+        matches.and(base);
+        int n = matches.cardinality();
+        if (n > 0) {
+            counts.merge(label, (long) n, Long::sum);
+        }
+    }
+
+    private static Map<String, Long> byCountDesc(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    private String bucketLabel(int bucket) {
+        if (bucketEdges.length == 0) {
+            return "all";
+        }
+        if (bucket == bucketEdges.length) {
+            return (long) bucketEdges[bucket - 1] + "+";
+        }
+        long from = bucket == 0 ? 0 : (long) bucketEdges[bucket - 1];
+        return from + "-" + (long) bucketEdges[bucket];
+    }
+
+    private int bucketOf(double price) {
+        int bucket = Arrays.binarySearch(bucketEdges, price);
+        return bucket >= 0 ? bucket + 1 : -bucket - 1;
+    }
+
+    /* ======================
+       MAINTENANCE (write lock held)
+    ====================== */
+
+    private void put(Property p) {
+
+        remove(p.getId());
+
+        int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+        ensureCapacity(slot + 1);
+
+        String city = SearchKeys.city(p.getCity());
+        String type = SearchKeys.type(p.getPropertyType());
+
+        ids[slot] = p.getId();
+        prices[slot] = p.getPrice();
+        cities[slot] = city;
+        types[slot] = type;
+
+        live.set(slot);
+        slotById.put(p.getId(), slot);
+        byCity.computeIfAbsent(city, k -> new BitSet()).set(slot);
+        byType.computeIfAbsent(type, k -> new BitSet()).set(slot);
+        byPriceBucket[bucketOf(p.getPrice())].set(slot);
+        cityLabels.putIfAbsent(city, p.getCity().trim());
+
+        int at = upperBound(p.getPrice());
+        System.arraycopy(sortedPrices, at, sortedPrices, at + 1, sortedCount - at);
+        System.arraycopy(sortedSlots, at, sortedSlots, at + 1, sortedCount - at);
+        sortedPrices[at] = p.getPrice();
+        sortedSlots[at] = slot;
+        sortedCount++;
+    }
+
+    private void remove(Long id) {
+
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+
+        live.clear(slot);
+        clearBit(byCity, cities[slot], slot);
+        clearBit(byType, types[slot], slot);
+        byPriceBucket[bucketOf(prices[slot])].clear(slot);
+
+        if (!byCity.containsKey(cities[slot])) {
+            cityLabels.remove(cities[slot]);
+        }
+
+        for (int i = lowerBound(prices[slot]); i < sortedCount; i++) {
+            if (sortedSlots[i] == slot) {
+                System.arraycopy(sortedPrices, i + 1, sortedPrices, i, sortedCount - i - 1);
+                System.arraycopy(sortedSlots, i + 1, sortedSlots, i, sortedCount - i - 1);
+                sortedCount--;
+                break;
+            }
+        }
+
+        cities[slot] = null;
+        types[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private static void clearBit(Map<String, BitSet> bitmaps, String key, int slot) {
+        BitSet bits = bitmaps.get(key);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private void ensureCapacity(int slots) {
+        if (slots > ids.length) {
+            int size = Math.max(slots, ids.length * 2);
+            ids = Arrays.copyOf(ids, size);
+            prices = Arrays.copyOf(prices, size);
+            cities = Arrays.copyOf(cities, size);
+            types = Arrays.copyOf(types, size);
+            sortedPrices = Arrays.copyOf(sortedPrices, size);
+            sortedSlots = Arrays.copyOf(sortedSlots, size);
+        }
+    }
+
+    // first position with price >= value
+    private int lowerBound(double value) {
+        int lo = 0, hi = sortedCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedPrices[mid] < value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    // first position with price > value
+    private int upperBound(double value) {
+        int lo = 0, hi = sortedCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedPrices[mid] <= value) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,101 @@
+package com.app.index;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.app.dto.StatusCount;
+import com.app.event.PropertyChangedEvent;
+import com.app.model.Property;
+import com.app.model.SearchKeys;
+import com.app.repository.PropertyRepository;
+
+/**
+ * Number of properties per status, loaded once with a GROUP BY and then
+ * moved by change events, so admin lists never need count(*).
+ *
+ * A periodic reconciliation reloads the counts to correct drift (e.g.
+ * rows changed outside this service). It is discarded if any event was
+ * applied while the reload ran, since that event may or may not be part
+ * of the snapshot; the next run tries again.
+ */
+@Component
+public class PropertyStatusCounter {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(PropertyStatusCounter.class);
+
+    private final PropertyRepository repository;
+
+    // updates are serialized on this; reads are lock-free
+    private volatile Map<String, Long> counts;
+    private final AtomicLong applied = new AtomicLong();
+
+    public PropertyStatusCounter(PropertyRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    @Scheduled(
+            initialDelayString = "${property.status-counts.reconcile-interval-ms:600000}",
+            fixedDelayString = "${property.status-counts.reconcile-interval-ms:600000}")
+    public void reconcile() {
+
+        long before = applied.get();
+
+        Map<String, Long> loaded = new ConcurrentHashMap<>();
+        for (StatusCount c : repository.countGroupedByStatus()) {
+            loaded.merge(SearchKeys.status(c.status()), c.total(), Long::sum);
+        }
+
+        synchronized (this) {
+            if (applied.get() != before) {
+                log.debug("Status counts changed during reconciliation, retrying later");
+                return;
+            }
+            counts = loaded;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+
+        synchronized (this) {
+            Map<String, Long> current = counts;
+            if (current != null) {
+                for (Property p : event.properties()) {
+                    if (event.previousStatus() != null) {
+                        current.merge(SearchKeys.status(event.previousStatus()), -1L, Long::sum);
+                    }
+                    current.merge(SearchKeys.status(p.getStatus()), 1L, Long::sum);
+                }
+            }
+            applied.incrementAndGet();
+        }
+    }
+
+    public boolean isReady() {
+        return counts != null;
+    }
+
+    // exact total for one status, or -1 before the first load
+    public long count(String status) {
+        Map<String, Long> current = counts;
+        if (current == null) {
+            return -1;
+        }
+        return current.getOrDefault(SearchKeys.status(status), 0L);
+    }
+}
@@ -0,0 +1,140 @@
+package com.app.index;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Listing views without a database write per request.
+ *
+ * A view is one LongAdder increment, so concurrent readers of the same
+ * listing do not contend. A scheduled flush upserts the views added
+ * since the previous flush in one JDBC batch and feeds the same deltas
+ * into a Space-Saving sketch whose counts halve every half-life, which
+ * ranks recent rather than all-time popularity.
+ *
+ * Counters are cumulative and only the flushed total moves, so a view
+ * racing with a flush, or a failed flush, is picked up by the next one.
+ * Views not yet flushed are lost if the process dies.
+ */
+@Component
+public class PropertyViewCounter implements DisposableBean {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(PropertyViewCounter.class);
+
+    private static final String UPSERT =
+            "INSERT INTO property_view_counts (property_id, views, updated_at) "
+          + "VALUES (?, ?, ?) "
+          + "ON DUPLICATE KEY UPDATE views = views + VALUES(views), "
+          + "updated_at = VALUES(updated_at)";
+
+    private static final int BATCH_SIZE = 500;
+
+    public record Trending(long propertyId, long recentViews) {
+    }
+
+    private static final class Counter {
+        final LongAdder views = new LongAdder();
+        long flushed;  // flush thread only
+    }
+
+    private record Delta(long propertyId, Counter counter, long views) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TrendingSketch trending;
+    private final double halfLifeNanos;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private long lastDecay = System.nanoTime();
+
+    public PropertyViewCounter(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${property.views.trending.capacity:500}") int capacity,
+            @Value("${property.views.trending.half-life-minutes:60}") long halfLifeMinutes) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.trending = new TrendingSketch(capacity);
+        this.halfLifeNanos = halfLifeMinutes * 60_000_000_000.0;
+    }
+
+    public void record(Long propertyId) {
+        Counter counter = counters.get(propertyId);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(propertyId, id -> new Counter());
+        }
+        counter.views.increment();
+    }
+
+    // Up to k listings, most viewed recently first; may include listings
+    // that are no longer approved
+    public List<Trending> trending(int k) {
+        return trending.top(k).stream()
+                .map(e -> new Trending(e.id(), Math.round(e.count())))
+                .toList();
+    }
+
+    /* ======================
+       FLUSH
+    ====================== */
+
+    @Scheduled(fixedDelayString = "${property.views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+
+        long now = System.nanoTime();
+        trending.decay(Math.pow(0.5, (now - lastDecay) / halfLifeNanos));
+        lastDecay = now;
+
+        List<Delta> deltas = new ArrayList<>();
+        counters.forEach((id, counter) -> {
+            long views = counter.views.sum() - counter.flushed;
+            if (views > 0) {
+                deltas.add(new Delta(id, counter, views));
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            // one transaction, so a retry never re-adds a committed batch
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPSERT, deltas, BATCH_SIZE, (ps, d) -> {
+                        ps.setLong(1, d.propertyId());
+                        ps.setLong(2, d.views());
+                        ps.setTimestamp(3, updatedAt);
+                    }));
+        } catch (RuntimeException e) {
+            log.warn("View count flush of {} listings failed, retrying later", deltas.size(), e);
+            return;
+        }
+
+        for (Delta d : deltas) {
+            d.counter().flushed += d.views();
+            trending.add(d.propertyId(), d.views());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
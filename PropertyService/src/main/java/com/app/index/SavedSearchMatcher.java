@@ -0,0 +1,251 @@
+package com.app.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.app.model.Property;
+import com.app.model.SavedSearch;
+import com.app.model.SearchKeys;
+import com.app.repository.SavedSearchRepository;
+
+/**
+ * Reverse search: given a property, finds the saved searches it matches.
+ *
+ * City and type are inverted indexes (value -> saved search ids), with a
+ * separate posting list for searches that leave the criterion open.
+ * Price ranges live in an interval tree. A match starts from the most
+ * selective of the three and verifies the remaining criteria, so cost
+ * follows the number of candidates rather than the number of saved
+ * searches.
+ */
+@Component
+public class SavedSearchMatcher {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SavedSearchMatcher.class);
+
+    // postings at most this long are scanned directly instead of stabbing
+    // the price tree; so are postings under a quarter of all searches
+    private static final int SMALL_POSTINGS = 64;
+
+    public record Match(long savedSearchId, long userId) {
+    }
+
+    private record Criteria(
+            long id,
+            long userId,
+            String city,
+            String type,
+            double low,
+            double high,
+            String[] keywords) {
+    }
+
+    private final SavedSearchRepository repository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Criteria> byId = new HashMap<>();
+    private final Map<String, Set<Long>> byCity = new HashMap<>();
+    private final Set<Long> anyCity = new HashSet<>();
+    private final Map<String, Set<Long>> byType = new HashMap<>();
+    private final Set<Long> anyType = new HashSet<>();
+
+    // rebuilt on the first match after a change; saved searches change
+    // rarely. Guarded by the lock like the maps, so a read-locked match
+    // never sees a tree older than byId
+    private PriceIntervalTree priceTree = PriceIntervalTree.build(List.of());
+    private boolean priceTreeStale;
+
+    public SavedSearchMatcher(SavedSearchRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+
+        List<SavedSearch> all = repository.findAll();
+
+        lock.writeLock().lock();
+        try {
+            all.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Saved search matcher loaded {} saved searches", all.size());
+    }
+
+    /* ======================
+       MAINTENANCE
+    ====================== */
+
+    public void add(SavedSearch search) {
+        lock.writeLock().lock();
+        try {
+            put(search);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Criteria c = byId.remove(id);
+            if (c == null) {
+                return;
+            }
+            unlink(byCity, anyCity, c.city(), id);
+            unlink(byType, anyType, c.type(), id);
+            priceTreeStale = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(SavedSearch s) {
+        Criteria c = new Criteria(
+                s.getId(),
+                s.getUserId(),
+                s.getCity(),
+                s.getPropertyType(),
+                s.getMinPrice() == null ? Double.NEGATIVE_INFINITY : s.getMinPrice(),
+                s.getMaxPrice() == null ? Double.POSITIVE_INFINITY : s.getMaxPrice(),
+                tokens(s.getKeywords()));
+
+        byId.put(c.id(), c);
+        link(byCity, anyCity, c.city(), c.id());
+        link(byType, anyType, c.type(), c.id());
+        priceTreeStale = true;
+    }
+
+    private static void link(Map<String, Set<Long>> index, Set<Long> any, String key, long id) {
+        if (key == null) {
+            any.add(id);
+        } else {
+            index.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static void unlink(Map<String, Set<Long>> index, Set<Long> any, String key, long id) {
+        if (key == null) {
+            any.remove(id);
+            return;
+        }
+        Set<Long> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /* ======================
+       MATCHING
+    ====================== */
+
+    public List<Match> match(Property p) {
+
+        String city = SearchKeys.city(p.getCity());
+        String type = SearchKeys.type(p.getPropertyType());
+        double price = p.getPrice();
+        Set<String> words = null;
+
+        // a stale tree is rebuilt under the write lock, then the read lock
+        // is retaken; a change in between marks it stale again
+        lock.readLock().lock();
+        while (priceTreeStale) {
+            lock.readLock().unlock();
+            refreshPriceTree();
+            lock.readLock().lock();
+        }
+        try {
+            Set<Long> cityIds = byCity.getOrDefault(city, Set.of());
+            Set<Long> typeIds = byType.getOrDefault(type, Set.of());
+
+            int cityCount = cityIds.size() + anyCity.size();
+            int typeCount = typeIds.size() + anyType.size();
+
+            List<Long> candidates = new ArrayList<>();
+            if (Math.min(cityCount, typeCount) <= SMALL_POSTINGS
+                    || Math.min(cityCount, typeCount) <= priceTree.size() / 4) {
+                if (cityCount <= typeCount) {
+                    candidates.addAll(cityIds);
+                    candidates.addAll(anyCity);
+                } else {
+                    candidates.addAll(typeIds);
+                    candidates.addAll(anyType);
+                }
+            } else {
+                priceTree.stab(price, candidates::add);
+            }
+
+            List<Match> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                Criteria c = byId.get(id);
+                if (c == null
+                        || (c.city() != null && !c.city().equals(city))
+                        || (c.type() != null && !c.type().equals(type))
+                        || price < c.low() || price > c.high()) {
+                    continue;
+                }
+                if (c.keywords().length > 0) {
+                    if (words == null) {
+                        words = Set.of(tokens(p.getTitle() + " " + p.getDescription()));
+                    }
+                    if (!words.containsAll(Arrays.asList(c.keywords()))) {
+                        continue;
+                    }
+                }
+                matches.add(new Match(c.id(), c.userId()));
+            }
+            return matches;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void refreshPriceTree() {
+        lock.writeLock().lock();
+        try {
+            if (!priceTreeStale) {
+                return;
+            }
+            List<PriceIntervalTree.Interval> intervals = new ArrayList<>(byId.size());
+            for (Criteria c : byId.values()) {
+                intervals.add(new PriceIntervalTree.Interval(c.id(), c.low(), c.high()));
+            }
+            priceTree = PriceIntervalTree.build(intervals);
+            priceTreeStale = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Lowercase word tokens, de-duplicated
+    public static String[] tokens(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+"))
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
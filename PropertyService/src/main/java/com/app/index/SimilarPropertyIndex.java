@@ -0,0 +1,318 @@
+package com.app.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.app.event.PropertyChangedEvent;
+import com.app.model.Property;
+import com.app.model.SearchKeys;
+import com.app.repository.PropertyRepository;
+import com.app.specification.PropertySpecification;
+
+/**
+ * Nearest neighbours among APPROVED properties for "similar listings".
+ *
+ * Each property is a point of log(price), log(area) and log(price per
+ * sqft), so distances compare ratios rather than absolute amounts. A
+ * different property type adds a fixed penalty. Points are partitioned
+ * by (state, city), since city names repeat across states, and stored in
+ * flat arrays; a query scans its own city and, if that yields fewer than
+ * k neighbours, the other cities of the same state with an extra penalty.
+ * A partition is dropped when its last property leaves.
+ */
+@Component
+public class SimilarPropertyIndex {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SimilarPropertyIndex.class);
+
+    private static final int DIMS = 3;
+
+    // squared-distance penalties, in the same units as the log features
+    // (a factor of 2 in one feature is ~0.48)
+    private static final double TYPE_PENALTY = 1.0;
+    private static final double STATE_PENALTY = 0.5;
+
+    private final PropertyRepository repository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Place(String state, String city) {
+    }
+
+    private final Map<Place, Partition> byPlace = new HashMap<>();
+    private final Map<String, Set<Partition>> partitionsByState = new HashMap<>();
+    private final Map<Long, Partition> partitionById = new HashMap<>();
+
+    private final PendingChanges pending = new PendingChanges();
+    private volatile boolean ready;
+
+    public SimilarPropertyIndex(
+            PropertyRepository repository,
+            @Value("${property.similar.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    /* ======================
+       LIFECYCLE
+    ====================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+
+        if (!enabled) {
+            log.info("Similar property index disabled");
+            return;
+        }
+
+        List<Property> approved =
+                repository.findAll(PropertySpecification.isApproved());
+
+        lock.writeLock().lock();
+        try {
+            approved.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        pending.release(this::apply);
+        ready = true;
+
+        log.info("Similar property index loaded {} approved properties", approved.size());
+    }
+
+    // events committed before the snapshot is loaded are held, then replayed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (enabled && pending.admit(event)) {
+            apply(event);
+        }
+    }
+
+    private void apply(PropertyChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            for (Property p : event.properties()) {
+                if ("APPROVED".equals(p.getStatus())) {
+                    put(p);
+                } else {
+                    remove(p.getId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /* ======================
+       QUERY
+    ====================== */
+
+    // Up to k nearest ids, closest first; null if the property is not indexed
+    public List<Long> similar(Long id, int k) {
+
+        lock.readLock().lock();
+        try {
+            Partition home = partitionById.get(id);
+            if (home == null) {
+                return null;
+            }
+
+            int at = home.indexOf(id);
+            float[] target = Arrays.copyOfRange(
+                    home.features, at * DIMS, at * DIMS + DIMS);
+            String type = home.types[at];
+
+            TopK top = new TopK(k);
+            home.scan(target, type, 0, id, top);
+
+            if (top.size < k) {
+                for (Partition other : partitionsByState.get(home.place.state())) {
+                    if (other != home) {
+                        other.scan(target, type, STATE_PENALTY, id, top);
+                    }
+                }
+            }
+            return top.ids();
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ======================
+       MAINTENANCE (write lock held)
+    ====================== */
+
+    private void put(Property p) {
+
+        remove(p.getId());
+
+        Place place = new Place(
+                SearchKeys.city(p.getState()), SearchKeys.city(p.getCity()));
+
+        Partition partition = byPlace.get(place);
+        if (partition == null) {
+            partition = new Partition(place);
+            byPlace.put(place, partition);
+            partitionsByState.computeIfAbsent(place.state(), s -> new HashSet<>())
+                    .add(partition);
+        }
+
+        partition.add(p.getId(), features(p), SearchKeys.type(p.getPropertyType()));
+        partitionById.put(p.getId(), partition);
+    }
+
+    private void remove(Long id) {
+        Partition partition = partitionById.remove(id);
+        if (partition == null) {
+            return;
+        }
+        partition.remove(id);
+
+        if (partition.size == 0) {
+            Place place = partition.place;
+            byPlace.remove(place);
+            Set<Partition> inState = partitionsByState.get(place.state());
+            inState.remove(partition);
+            if (inState.isEmpty()) {
+                partitionsByState.remove(place.state());
+            }
+        }
+    }
+
+    private static float[] features(Property p) {
+        double price = Math.max(p.getPrice(), 1);
+        double area = Math.max(p.getAreaSqft(), 1);
+        return new float[] {
+                (float) Math.log(price),
+                (float) Math.log(area),
+                (float) Math.log(price / area)
+        };
+    }
+
+    /* ======================
+       STRUCTURES
+    ====================== */
+
+    // One city: parallel arrays, removal swaps the last entry in
+    private static final class Partition {
+
+        final Place place;
+        final Map<Long, Integer> indexById = new HashMap<>();
+
+        long[] ids = new long[16];
+        float[] features = new float[16 * DIMS];
+        String[] types = new String[16];
+        int size;
+
+        Partition(Place place) {
+            this.place = place;
+        }
+
+        int indexOf(Long id) {
+            return indexById.get(id);
+        }
+
+        void add(long id, float[] point, String type) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                features = Arrays.copyOf(features, capacity * DIMS);
+                types = Arrays.copyOf(types, capacity);
+            }
+            ids[size] = id;
+            System.arraycopy(point, 0, features, size * DIMS, DIMS);
+            types[size] = type;
+            indexById.put(id, size);
+            size++;
+        }
+
+        void remove(Long id) {
+            int i = indexById.remove(id);
+            int last = --size;
+            if (i != last) {
+                ids[i] = ids[last];
+                System.arraycopy(features, last * DIMS, features, i * DIMS, DIMS);
+                types[i] = types[last];
+                indexById.put(ids[i], i);
+            }
+            types[last] = null;
+        }
+
+        void scan(float[] target, String type, double penalty, long exclude, TopK top) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == exclude) {
+                    continue;
+                }
+                double d = penalty;
+                int base = i * DIMS;
+                for (int j = 0; j < DIMS; j++) {
+                    double diff = features[base + j] - target[j];
+                    d += diff * diff;
+                }
+                if (!type.equals(types[i])) {
+                    d += TYPE_PENALTY;
+                }
+                top.offer(ids[i], d);
+            }
+        }
+    }
+
+    // Bounded best-k list kept sorted by distance (k is small)
+    private static final class TopK {
+
+        final long[] ids;
+        final double[] distances;
+        int size;
+
+        TopK(int k) {
+            ids = new long[k];
+            distances = new double[k];
+        }
+
+        void offer(long id, double distance) {
+            int k = ids.length;
+            if (size == k && distance >= distances[k - 1]) {
+                return;
+            }
+            int i = size < k ? size++ : k - 1;
+            while (i > 0 && distances[i - 1] > distance) {
+                ids[i] = ids[i - 1];
+                distances[i] = distances[i - 1];
+                i--;
+            }
+            ids[i] = id;
+            distances[i] = distance;
+        }
+
+        List<Long> ids() {
+            List<Long> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(ids[i]);
+            }
+            return result;
+        }
+    }
+}
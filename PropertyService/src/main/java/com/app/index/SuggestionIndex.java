@@ -0,0 +1,428 @@
+package com.app.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.app.dto.Suggestion;
+import com.app.event.PropertyChangedEvent;
+import com.app.model.Property;
+import com.app.repository.PropertyRepository;
+import com.app.specification.PropertySpecification;
+
+/**
+ * Search-box autocomplete over the place names of APPROVED listings:
+ * city, state, locality (last comma part of the address line) and
+ * pincode, each weighted by its number of listings.
+ *
+ * Terms live in a character trie whose nodes also keep the best weight
+ * below them, so the top-k completions of a prefix are found best-first
+ * without visiting the whole subtree. When the exact prefix has fewer
+ * than k completions, a Levenshtein walk of the trie adds prefixes
+ * within one edit (two for prefixes of six or more characters).
+ */
+@Component
+public class SuggestionIndex {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SuggestionIndex.class);
+
+    public enum Kind { CITY, STATE, LOCALITY, PINCODE }
+
+    private record TermKey(Kind kind, String text) {
+    }
+
+    // queue entry for the best-first walk: a subtree or a single term
+    private record Candidate(long weight, Node node, Term term) {
+    }
+
+    private static final class Term {
+        final Kind kind;
+        String label;
+        long count;
+
+        Term(Kind kind, String label) {
+            this.kind = kind;
+            this.label = label;
+        }
+    }
+
+    private static final class Node {
+        final Node parent;
+        final char c;
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        Map<Kind, Term> terms;
+        long best;  // max term count in this subtree
+
+        Node(Node parent, char c) {
+            this.parent = parent;
+            this.c = c;
+        }
+
+        Node child(char key) {
+            int i = Arrays.binarySearch(keys, key);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node addChild(char key) {
+            int i = Arrays.binarySearch(keys, key);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node node = new Node(this, key);
+            keys = insert(keys, at, key);
+            children = insert(children, at, node);
+            return node;
+        }
+
+        void removeChild(char key) {
+            int i = Arrays.binarySearch(keys, key);
+            if (i < 0) {
+                return;
+            }
+            char[] k = new char[keys.length - 1];
+            Node[] n = new Node[children.length - 1];
+            System.arraycopy(keys, 0, k, 0, i);
+            System.arraycopy(keys, i + 1, k, i, keys.length - i - 1);
+            System.arraycopy(children, 0, n, 0, i);
+            System.arraycopy(children, i + 1, n, i, children.length - i - 1);
+            keys = k;
+            children = n;
+        }
+
+        long ownBest() {
+            long max = 0;
+            if (terms != null) {
+                for (Term t : terms.values()) {
+                    max = Math.max(max, t.count);
+                }
+            }
+            return max;
+        }
+
+        private static char[] insert(char[] a, int at, char v) {
+            char[] r = new char[a.length + 1];
+            System.arraycopy(a, 0, r, 0, at);
+            r[at] = v;
+            System.arraycopy(a, at, r, at + 1, a.length - at);
+            return r;
+        }
+
+        private static Node[] insert(Node[] a, int at, Node v) {
+            Node[] r = new Node[a.length + 1];
+            System.arraycopy(a, 0, r, 0, at);
+            r[at] = v;
+            System.arraycopy(a, at, r, at + 1, a.length - at);
+            return r;
+        }
+    }
+
+    private final PropertyRepository repository;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node(null, '\0');
+    private final Map<Long, List<TermKey>> termsById = new HashMap<>();
+
+    private final PendingChanges pending = new PendingChanges();
+    private volatile boolean ready;
+
+    public SuggestionIndex(
+            PropertyRepository repository,
+            @Value("${property.suggest.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    /* ======================
+       LIFECYCLE
+    ====================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+
+        if (!enabled) {
+            log.info("Suggestion index disabled");
+            return;
+        }
+
+        List<Property> approved =
+                repository.findAll(PropertySpecification.isApproved());
+
+        lock.writeLock().lock();
+        try {
+            approved.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        pending.release(this::apply);
+        ready = true;
+
+        log.info("Suggestion index loaded {} approved properties", approved.size());
+    }
+
+    // events committed before the snapshot is loaded are held, then replayed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (enabled && pending.admit(event)) {
+            apply(event);
+        }
+    }
+
+    private void apply(PropertyChangedEvent event) {
+
+        lock.writeLock().lock();
+        try {
+            for (Property p : event.properties()) {
+                if ("APPROVED".equals(p.getStatus())) {
+                    put(p);
+                } else {
+                    remove(p.getId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /* ======================
+       QUERY
+    ====================== */
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<TermKey, Suggestion> results = new LinkedHashMap<>();
+
+            Node exact = find(key);
+            if (exact != null) {
+                collect(exact, limit, results);
+            }
+
+            if (results.size() < limit) {
+                int maxEdits = key.length() >= 6 ? 2 : 1;
+                List<Node> fuzzy = new ArrayList<>();
+                int[] firstRow = new int[key.length() + 1];
+                for (int i = 0; i < firstRow.length; i++) {
+                    firstRow[i] = i;
+                }
+                for (Node child : root.children) {
+                    fuzzyWalk(child, 1, key, firstRow, maxEdits, fuzzy);
+                }
+                fuzzy.sort(Comparator.comparingLong((Node n) -> n.best).reversed());
+                for (Node node : fuzzy) {
+                    if (results.size() >= limit) {
+                        break;
+                    }
+                    if (node != exact) {
+                        collect(node, limit, results);
+                    }
+                }
+            }
+
+            // exact completions first, each group by listing count
+            return List.copyOf(results.values());
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    // Best-first over subtree maxima: stops once k terms are out
+    private void collect(Node start, int limit, Map<TermKey, Suggestion> out) {
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(
+                Comparator.comparingLong(Candidate::weight).reversed());
+        queue.add(new Candidate(start.best, start, null));
+
+        while (!queue.isEmpty() && out.size() < limit) {
+            Candidate next = queue.poll();
+
+            if (next.term() != null) {
+                Term term = next.term();
+                out.putIfAbsent(
+                        new TermKey(term.kind, normalize(term.label)),
+                        new Suggestion(term.label, term.kind.name(), term.count));
+                continue;
+            }
+
+            Node node = next.node();
+            if (node.terms != null) {
+                for (Term t : node.terms.values()) {
+                    queue.add(new Candidate(t.count, null, t));
+                }
+            }
+            for (Node child : node.children) {
+                queue.add(new Candidate(child.best, child, null));
+            }
+        }
+    }
+
+    // Nodes whose path is within maxEdits of the prefix. Paths may be up to
+    // maxEdits shorter, so an extra typed character ("punee") still finds
+    // a term that ends there ("pune").
+    private void fuzzyWalk(Node node, int depth, String key, int[] previous,
+                           int maxEdits, List<Node> out) {
+
+        int[] row = new int[previous.length];
+        row[0] = previous[0] + 1;
+        int rowMin = row[0];
+
+        for (int i = 1; i < row.length; i++) {
+            int cost = key.charAt(i - 1) == node.c ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previous[i] + 1),
+                              previous[i - 1] + cost);
+            rowMin = Math.min(rowMin, row[i]);
+        }
+
+        if (depth >= key.length() - maxEdits && row[row.length - 1] <= maxEdits) {
+            out.add(node);
+            return;
+        }
+        if (rowMin > maxEdits) {
+            return;
+        }
+        for (Node child : node.children) {
+            fuzzyWalk(child, depth + 1, key, row, maxEdits, out);
+        }
+    }
+
+    /* ======================
+       MAINTENANCE (write lock held)
+    ====================== */
+
+    private void put(Property p) {
+
+        remove(p.getId());
+
+        List<TermKey> keys = new ArrayList<>(4);
+        addTerm(keys, Kind.CITY, p.getCity());
+        addTerm(keys, Kind.STATE, p.getState());
+        addTerm(keys, Kind.LOCALITY, locality(p.getAddressLine()));
+        addTerm(keys, Kind.PINCODE, p.getPincode());
+
+        termsById.put(p.getId(), keys);
+    }
+
+    private void addTerm(List<TermKey> keys, Kind kind, String label) {
+
+        if (label == null || label.isBlank()) {
+            return;
+        }
+        String text = normalize(label);
+        if (text.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            node = node.addChild(text.charAt(i));
+        }
+        if (node.terms == null) {
+            node.terms = new EnumMap<>(Kind.class);
+        }
+        Term term = node.terms.computeIfAbsent(kind, k -> new Term(k, label.trim()));
+        term.count++;
+
+        keys.add(new TermKey(kind, text));
+        updateBest(node);
+    }
+
+    private void remove(Long id) {
+
+        List<TermKey> keys = termsById.remove(id);
+        if (keys == null) {
+            return;
+        }
+
+        for (TermKey key : keys) {
+            Node node = find(key.text());
+            if (node == null || node.terms == null) {
+                continue;
+            }
+            Term term = node.terms.get(key.kind());
+            if (term != null && --term.count <= 0) {
+                node.terms.remove(key.kind());
+                if (node.terms.isEmpty()) {
+                    node.terms = null;
+                }
+            }
+            prune(node);
+        }
+    }
+
+    // drop empty leaves, then refresh the maxima up to the root
+    private void prune(Node node) {
+        while (node != root && node.terms == null && node.children.length == 0) {
+            Node parent = node.parent;
+            parent.removeChild(node.c);
+            node = parent;
+        }
+        updateBest(node);
+    }
+
+    private static void updateBest(Node node) {
+        for (Node n = node; n != null; n = n.parent) {
+            long best = n.ownBest();
+            for (Node child : n.children) {
+                best = Math.max(best, child.best);
+            }
+            if (best == n.best && n != node) {
+                break;
+            }
+            n.best = best;
+        }
+    }
+
+    private static String locality(String addressLine) {
+        if (addressLine == null) {
+            return null;
+        }
+        int comma = addressLine.lastIndexOf(',');
+        return comma >= 0 ? addressLine.substring(comma + 1) : null;
+    }
+
+    private static String normalize(String text) {
+        return text == null
+                ? ""
+                : text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+}
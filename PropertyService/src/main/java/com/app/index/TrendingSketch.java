@@ -0,0 +1,136 @@
+package com.app.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy hitters over weighted updates, in fixed memory.
+ *
+ * At most {@code capacity} ids are tracked in an indexed min-heap of
+ * counts. An untracked id replaces the current minimum and inherits its
+ * count as error, so counts never underestimate and any id with more
+ * than total / capacity weight is guaranteed to be present. Decay
+ * scales every entry alike, which keeps the heap order intact.
+ */
+final class TrendingSketch {
+
+    record Entry(long id, double count, double error) {
+    }
+
+    private final long[] ids;
+    private final double[] counts;
+    private final double[] errors;
+    private final Map<Long, Integer> positions;
+    private int size;
+
+    TrendingSketch(int capacity) {
+        ids = new long[capacity];
+        counts = new double[capacity];
+        errors = new double[capacity];
+        positions = new HashMap<>(capacity * 2);
+    }
+
+    synchronized void add(long id, double weight) {
+
+        Integer at = positions.get(id);
+        if (at != null) {
+            counts[at] += weight;
+            siftDown(at);
+            return;
+        }
+
+        if (size < ids.length) {
+            set(size, id, weight, 0);
+            siftUp(size++);
+            return;
+        }
+
+        // evict the minimum; the newcomer may have been counted there
+        double min = counts[0];
+        positions.remove(ids[0]);
+        set(0, id, min + weight, min);
+        siftDown(0);
+    }
+
+    synchronized void decay(double factor) {
+        for (int i = 0; i < size; i++) {
+            counts[i] *= factor;
+            errors[i] *= factor;
+        }
+    }
+
+    // the k largest counts, largest first
+    synchronized List<Entry> top(int k) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> counts[i]).reversed());
+
+        List<Entry> result = new ArrayList<>(Math.min(k, size));
+        for (int i = 0; i < order.length && result.size() < k; i++) {
+            int at = order[i];
+            result.add(new Entry(ids[at], counts[at], errors[at]));
+        }
+        return result;
+    }
+
+    /* ======================
+       HEAP
+    ====================== */
+
+    private void set(int at, long id, double count, double error) {
+        ids[at] = id;
+        counts[at] = count;
+        errors[at] = error;
+        positions.put(id, at);
+    }
+
+    private void siftUp(int at) {
+        while (at > 0) {
+            int parent = (at - 1) / 2;
+            if (counts[parent] <= counts[at]) {
+                return;
+            }
+            swap(at, parent);
+            at = parent;
+        }
+    }
+
+    private void siftDown(int at) {
+        while (true) {
+            int smallest = at;
+            int left = 2 * at + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (right < size && counts[right] < counts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == at) {
+                return;
+            }
+            swap(at, smallest);
+            at = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        double count = counts[a];
+        double error = errors[a];
+        ids[a] = ids[b];
+        counts[a] = counts[b];
+        errors[a] = errors[b];
+        ids[b] = id;
+        counts[b] = count;
+        errors[b] = error;
+        positions.put(ids[a], a);
+        positions.put(ids[b], b);
+    }
+}
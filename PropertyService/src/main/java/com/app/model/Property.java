@@ -6,14 +6,27 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
+// second-level cache, regions sized in application.conf
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Property.CACHE_REGION)
+// indexes are defined in db/migration
 @Table(name = "properties")
 public class Property {
 
+    // no dots: the Caffeine JCache config resolves region names as paths
+    public static final String CACHE_REGION = "property";
+    public static final String IMAGES_CACHE_REGION = "property-images";
+
+    // pooled sequence (a table on MySQL) so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "property_seq")
+    @SequenceGenerator(name = "property_seq", sequenceName = "property_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -40,6 +53,15 @@ public class Property {
     @Column(nullable = false)
     private String state;
 
+    // normalized copies for indexed filtering, see SearchKeys
+    @JsonIgnore
+    @Column(name = "city_key", nullable = false, length = 100)
+    private String cityKey;
+
+    @JsonIgnore
+    @Column(name = "property_type_key", nullable = false, length = 100)
+    private String propertyTypeKey;
+
     @Column(nullable = false)
     private String pincode;
 
@@ -49,6 +71,29 @@ public class Property {
     @Column(nullable = false)
     private String status = "PENDING";
 
+    // stored sort key for sort=price_per_sqft, derived in normalize()
+    @Column(name = "price_per_sqft", nullable = false)
+    private Double pricePerSqft;
+
+    // near-duplicate detection, see DuplicateListingIndex
+    @JsonIgnore
+    @Column(name = "simhash")
+    private Long simhash;
+
+    // closest existing listing when this one looked like a repost
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+
+    // denormalized card image, kept in sync by PropertyImageService
+    @Column(name = "primary_image_id")
+    private Long primaryImageId;
+
+    // optimistic lock for entity updates; status transitions bump it in SQL
+    @JsonIgnore
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -64,6 +109,7 @@ public class Property {
     	    fetch = FetchType.LAZY
     	)
     	@JsonManagedReference
+    	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = IMAGES_CACHE_REGION)
     	private List<PropertyImage> images;
 
     public void addImage(PropertyImage img) {
@@ -74,11 +120,22 @@ public class Property {
     public void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        normalize();
     }
 
     @PreUpdate
     public void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalize();
+    }
+
+    private void normalize() {
+        cityKey = SearchKeys.city(city);
+        propertyTypeKey = SearchKeys.type(propertyType);
+        status = SearchKeys.status(status);
+        if (price != null && areaSqft != null) {
+            pricePerSqft = price / Math.max(areaSqft, 1);
+        }
     }
     
     // getters and setters
@@ -123,6 +180,26 @@ public class Property {
 		this.areaSqft = areaSqft;
 	}
 
+	public Double getPricePerSqft() {
+		return pricePerSqft;
+	}
+
+	public Long getSimhash() {
+		return simhash;
+	}
+
+	public void setSimhash(Long simhash) {
+		this.simhash = simhash;
+	}
+
+	public Long getDuplicateOfId() {
+		return duplicateOfId;
+	}
+
+	public void setDuplicateOfId(Long duplicateOfId) {
+		this.duplicateOfId = duplicateOfId;
+	}
+
 	public String getPropertyType() {
 		return propertyType;
 	}
@@ -179,6 +256,18 @@ public class Property {
 		this.status = status;
 	}
 
+	public Long getPrimaryImageId() {
+		return primaryImageId;
+	}
+
+	public void setPrimaryImageId(Long primaryImageId) {
+		this.primaryImageId = primaryImageId;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
 	public LocalDateTime getCreatedAt() {
 		return createdAt;
 	}
@@ -5,12 +5,19 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PropertyImage.CACHE_REGION)
 @Table(name = "property_images")
 public class PropertyImage {
 
+    public static final String CACHE_REGION = "property-image";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "property_image_seq")
+    @SequenceGenerator(name = "property_image_seq", sequenceName = "property_image_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "image_url", nullable = false, length = 500)
@@ -19,6 +26,22 @@ public class PropertyImage {
     @Column(name = "is_primary", nullable = false)
     private Boolean isPrimary;
 
+    // set for images stored by ImageStorageService
+    @JsonIgnore
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // generated by ImageVariantService
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(name = "srcset", length = 2000)
+    private String srcset;
+
+    @JsonIgnore
+    @Column(name = "variant_status", length = 20)
+    private String variantStatus;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "property_id")
     @JsonBackReference
@@ -49,6 +72,38 @@ public class PropertyImage {
 		this.isPrimary = isPrimary;
 	}
 
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
+
+	public String getThumbnailUrl() {
+		return thumbnailUrl;
+	}
+
+	public void setThumbnailUrl(String thumbnailUrl) {
+		this.thumbnailUrl = thumbnailUrl;
+	}
+
+	public String getSrcset() {
+		return srcset;
+	}
+
+	public void setSrcset(String srcset) {
+		this.srcset = srcset;
+	}
+
+	public String getVariantStatus() {
+		return variantStatus;
+	}
+
+	public void setVariantStatus(String variantStatus) {
+		this.variantStatus = variantStatus;
+	}
+
 	public Property getProperty() {
 		return property;
 	}
@@ -0,0 +1,77 @@
+package com.app.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * Property lifecycle event recorded in the same transaction as the change.
+ * The id is only the insert key: ids are allocated in insert order, not
+ * commit order. Feed clients page by feed_offset, which the relay assigns
+ * when it publishes the event.
+ */
+@Entity
+@Table(name = "property_outbox")
+public class PropertyOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
+    @Column(name = "event_type", nullable = false, length = 40)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // change-feed position, assigned by the relay when published
+    @Column(name = "feed_offset")
+    private Long feedOffset;
+
+    // getters and setters
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getPropertyId() {
+		return propertyId;
+	}
+
+	public String getEventType() {
+		return eventType;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public LocalDateTime getPublishedAt() {
+		return publishedAt;
+	}
+
+	public void setPublishedAt(LocalDateTime publishedAt) {
+		this.publishedAt = publishedAt;
+	}
+
+	public Long getFeedOffset() {
+		return feedOffset;
+	}
+
+	public void setFeedOffset(Long feedOffset) {
+		this.feedOffset = feedOffset;
+	}
+}
@@ -0,0 +1,59 @@
+package com.app.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+/**
+ * One status transition; rows are only ever inserted.
+ * {@code fromStatus} is null for the creation of a listing.
+ */
+@Entity
+@Table(name = "property_status_history")
+public class PropertyStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+
+    @Column(name = "from_status", length = 20)
+    private String fromStatus;
+
+    @Column(name = "to_status", nullable = false, length = 20)
+    private String toStatus;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // getters
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getPropertyId() {
+		return propertyId;
+	}
+
+	public String getFromStatus() {
+		return fromStatus;
+	}
+
+	public String getToStatus() {
+		return toStatus;
+	}
+
+	public Long getActorId() {
+		return actorId;
+	}
+
+	public LocalDateTime getChangedAt() {
+		return changedAt;
+	}
+}
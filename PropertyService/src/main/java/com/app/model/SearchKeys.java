@@ -0,0 +1,25 @@
+package com.app.model;
+
+import java.util.Locale;
+
+/**
+ * Canonical forms of the searchable columns. Stored on write so filters
+ * compare plain indexed columns instead of lower()/upper() expressions.
+ */
+public final class SearchKeys {
+
+    private SearchKeys() {
+    }
+
+    public static String city(String city) {
+        return city == null ? "" : city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static String type(String propertyType) {
+        return propertyType == null ? "" : propertyType.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public static String status(String status) {
+        return status == null ? "" : status.trim().toUpperCase(Locale.ROOT);
+    }
+}
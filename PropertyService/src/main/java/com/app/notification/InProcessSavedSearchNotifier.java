@@ -0,0 +1,36 @@
+package com.app.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default notifier until a delivery channel is wired in: publishes the
+ * digest as a Spring application event. Users also see every match in
+ * their inbox (GET /properties/saved-searches/notifications).
+ */
+@Component
+@ConditionalOnProperty(
+        name = "property.saved-search.notifier",
+        havingValue = "in-process",
+        matchIfMissing = true)
+public class InProcessSavedSearchNotifier implements SavedSearchNotifier {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(InProcessSavedSearchNotifier.class);
+
+    private final ApplicationEventPublisher events;
+
+    public InProcessSavedSearchNotifier(ApplicationEventPublisher events) {
+        this.events = events;
+    }
+
+    @Override
+    public void send(SavedSearchDigest digest) {
+        log.info("Saved search digest for user {}: {} new listings",
+                digest.userId(), digest.items().size());
+        events.publishEvent(digest);
+    }
+}
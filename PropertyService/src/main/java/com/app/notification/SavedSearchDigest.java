@@ -0,0 +1,12 @@
+package com.app.notification;
+
+import java.util.List;
+
+/**
+ * All new saved-search matches of one user since their last digest.
+ */
+public record SavedSearchDigest(Long userId, List<Item> items) {
+
+    public record Item(Long savedSearchId, Long propertyId) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.app.notification;
+
+/**
+ * Delivers a digest to the user (mail, push, ...). Must throw if the
+ * digest was not accepted so it stays queued.
+ */
+public interface SavedSearchNotifier {
+
+    void send(SavedSearchDigest digest);
+}
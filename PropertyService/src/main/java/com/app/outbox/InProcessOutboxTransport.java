@@ -0,0 +1,28 @@
+package com.app.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local stand-in transport: re-publishes each message as a Spring
+ * application event, which tests and in-process consumers can listen to.
+ */
+@Component
+@ConditionalOnProperty(
+        name = "property.outbox.transport",
+        havingValue = "in-process",
+        matchIfMissing = true)
+public class InProcessOutboxTransport implements OutboxTransport {
+
+    private final ApplicationEventPublisher events;
+
+    public InProcessOutboxTransport(ApplicationEventPublisher events) {
+        this.events = events;
+    }
+
+    @Override
+    public void publish(OutboxMessage message) {
+        events.publishEvent(message);
+    }
+}
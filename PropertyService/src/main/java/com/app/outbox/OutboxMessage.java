@@ -0,0 +1,30 @@
+package com.app.outbox;
+
+import java.time.LocalDateTime;
+
+import com.app.model.PropertyOutboxEvent;
+
+/**
+ * A published property lifecycle event. {@code offset} is the feed
+ * offset assigned at publish time: strictly increasing in publish order,
+ * and what change-feed consumers resume from. {@code eventId} is stable
+ * across re-deliveries and is the key to dedupe on.
+ */
+public record OutboxMessage(
+        long offset,
+        long eventId,
+        Long propertyId,
+        String type,
+        String payload,
+        LocalDateTime occurredAt) {
+
+    public static OutboxMessage of(PropertyOutboxEvent event) {
+        return new OutboxMessage(
+                event.getFeedOffset(),
+                event.getId(),
+                event.getPropertyId(),
+                event.getEventType(),
+                event.getPayload(),
+                event.getCreatedAt());
+    }
+}
@@ -0,0 +1,93 @@
+package com.app.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.model.PropertyOutboxEvent;
+import com.app.repository.PropertyOutboxRepository;
+
+/**
+ * Publishes outbox rows in id order through the configured transport and
+ * gives each the next feed offset as it goes out.
+ *
+ * Ids are taken before commit, so a slow transaction can commit a lower
+ * id after higher ones were published; it then simply gets a later
+ * offset, and consumers past the earlier offsets still receive it. The
+ * settle window only keeps such reordering rare. Delivery is
+ * at-least-once: a crash after publishing but before marking the row
+ * re-sends it, so consumers should dedupe on the event id.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final PropertyOutboxRepository repository;
+    private final OutboxTransport transport;
+    private final int batchSize;
+    private final long settleMs;
+    private final int retentionDays;
+
+    public OutboxRelay(
+            PropertyOutboxRepository repository,
+            OutboxTransport transport,
+            @Value("${property.outbox.batch-size:200}") int batchSize,
+            @Value("${property.outbox.settle-ms:1000}") long settleMs,
+            @Value("${property.outbox.retention-days:7}") int retentionDays) {
+
+        this.repository = repository;
+        this.transport = transport;
+        this.batchSize = batchSize;
+        this.settleMs = settleMs;
+        this.retentionDays = retentionDays;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${property.outbox.relay-interval-ms:1000}")
+    public void relay() {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PropertyOutboxEvent> batch = repository.lockUnpublished(
+                now.minusNanos(settleMs * 1_000_000), Limit.of(batchSize));
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // read after the row locks, so it sees the previous relay's commit;
+        // the unique index rejects a concurrent relay reusing an offset
+        long offset = repository.maxFeedOffset();
+
+        for (PropertyOutboxEvent event : batch) {
+            event.setFeedOffset(offset + 1);
+            try {
+                transport.publish(OutboxMessage.of(event));
+            } catch (RuntimeException e) {
+                // keep order: nothing after a failed event goes out
+                event.setFeedOffset(null);
+                log.warn("Outbox publish failed for event {}, retrying later", event.getId(), e);
+                return;
+            }
+            event.setPublishedAt(now);
+            offset++;
+        }
+    }
+
+    @Transactional
+    @Scheduled(cron = "${property.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgePublished() {
+        int removed = repository.deletePublishedBefore(
+                LocalDateTime.now().minusDays(retentionDays));
+        log.info("Removed {} published outbox events", removed);
+    }
+}
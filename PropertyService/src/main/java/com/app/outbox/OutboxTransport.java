@@ -0,0 +1,11 @@
+package com.app.outbox;
+
+/**
+ * Where the relay delivers outbox events (a broker in production).
+ * Implementations must throw when a message was not accepted, so the
+ * relay stops and retries it before any later event.
+ */
+public interface OutboxTransport {
+
+    void publish(OutboxMessage message);
+}
@@ -0,0 +1,78 @@
+package com.app.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.app.event.PropertyChangedEvent;
+import com.app.model.Property;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Appends one outbox row per changed property. A plain (synchronous)
+ * listener runs inside the publisher's transaction, so the rows commit or
+ * roll back together with the change. Inserts go out as one JDBC batch.
+ */
+@Component
+public class OutboxWriter {
+
+    private static final String INSERT =
+            "INSERT INTO property_outbox (property_id, event_type, payload, created_at) "
+          + "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public record Payload(
+            Long id,
+            String title,
+            String city,
+            String state,
+            String propertyType,
+            Double price,
+            Integer areaSqft,
+            Long ownerId,
+            String status,
+            String previousStatus) {
+    }
+
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+
+        String type = event.previousStatus() == null
+                ? "PROPERTY_ADDED"
+                : "PROPERTY_" + event.properties().get(0).getStatus();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT, event.properties(), 500, (ps, p) -> {
+            ps.setLong(1, p.getId());
+            ps.setString(2, type);
+            ps.setString(3, objectMapper.writeValueAsString(payload(p, event.previousStatus())));
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    private static Payload payload(Property p, String previousStatus) {
+        return new Payload(
+                p.getId(),
+                p.getTitle(),
+                p.getCity(),
+                p.getState(),
+                p.getPropertyType(),
+                p.getPrice(),
+                p.getAreaSqft(),
+                p.getOwnerId(),
+                p.getStatus(),
+                previousStatus);
+    }
+}
@@ -1,11 +1,47 @@
 package com.app.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import com.app.model.PropertyImage;
 
+import jakarta.persistence.QueryHint;
+
 import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
 
 public interface PropertyImageRepository extends JpaRepository<PropertyImage, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PropertyImage> findByPropertyId(Long propertyId);
+
+    @Modifying
+    @Query("update PropertyImage i set i.isPrimary = false "
+         + "where i.property.id = :propertyId and i.id <> :imageId")
+    int clearPrimaryExcept(@Param("propertyId") Long propertyId,
+                           @Param("imageId") Long imageId);
+
+    /* ======================
+       VARIANTS
+    ====================== */
+
+    List<PropertyImage> findByVariantStatusOrderByIdAsc(String variantStatus, Limit limit);
+
+    @Query("select i.property.id from PropertyImage i where i.id = :id")
+    Optional<Long> findPropertyIdById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update PropertyImage i set i.thumbnailUrl = :thumbnailUrl, "
+         + "i.srcset = :srcset, i.variantStatus = :status where i.id = :id")
+    int updateVariants(@Param("id") Long id,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("srcset") String srcset,
+                       @Param("status") String status);
 }
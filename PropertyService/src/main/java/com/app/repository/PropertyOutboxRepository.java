@@ -0,0 +1,41 @@
+package com.app.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.app.model.PropertyOutboxEvent;
+
+import jakarta.persistence.LockModeType;
+
+public interface PropertyOutboxRepository extends JpaRepository<PropertyOutboxEvent, Long> {
+
+    // Oldest unpublished events; the row lock keeps a second relay instance waiting
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+           select e from PropertyOutboxEvent e
+           where e.publishedAt is null and e.createdAt <= :settledBefore
+           order by e.id
+           """)
+    List<PropertyOutboxEvent> lockUnpublished(
+            @Param("settledBefore") LocalDateTime settledBefore,
+            Limit limit);
+
+    // Last assigned feed offset (unique index, so a single index probe)
+    @Query("select coalesce(max(e.feedOffset), 0) from PropertyOutboxEvent e")
+    long maxFeedOffset();
+
+    // Change feed: published events after an offset, in publish order
+    List<PropertyOutboxEvent> findByFeedOffsetGreaterThanOrderByFeedOffsetAsc(
+            Long offset, Limit limit);
+
+    @Modifying
+    @Query("delete from PropertyOutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,14 +1,133 @@
 package com.app.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.app.dto.PropertyCard;
+import com.app.dto.StatusCount;
 import com.app.model.Property;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+
 public interface PropertyRepository
         extends JpaRepository<Property, Long>,
                 JpaSpecificationExecutor<Property> {
 
     // 🔥 SpecificationExecutor handles all filtering
-    // No extra methods needed here anymore
+
+    // Single query with images, safe to cache outside the session
+    @EntityGraph(attributePaths = "images")
+    Optional<Property> findWithImagesById(Long id);
+
+    // One query for the images of a whole result list; also initializes
+    // the collections of entities already loaded in the same session
+    @Query("select distinct p from Property p left join fetch p.images where p.id in :ids")
+    List<Property> fetchWithImages(@Param("ids") Collection<Long> ids);
+
+    // Query-cached: ids come from the query cache, rows from the entity
+    // region; any write to properties invalidates the cached result
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select p from Property p where p.status = 'APPROVED'")
+    List<Property> findAllApproved();
+
+    /* ======================
+       ADMIN LISTING
+    ====================== */
+
+    // Slice: fetches size + 1 rows, no count query
+    Slice<Property> findByStatus(String status, Pageable pageable);
+
+    long countByStatus(String status);
+
+    // pending listings flagged as likely reposts
+    Slice<Property> findByStatusAndDuplicateOfIdIsNotNull(String status, Pageable pageable);
+
+    List<Property> findByStatusNot(String status);
+
+    // read-write on purpose: routed to the primary, not a lagging replica
+    @Transactional
+    @Query("select new com.app.dto.StatusCount(p.status, count(p)) from Property p group by p.status")
+    List<StatusCount> countGroupedByStatus();
+
+    /* ======================
+       BULK STATUS
+    ====================== */
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Property p where p.id in :ids")
+    List<Property> lockAllById(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+           update Property p
+           set p.status = :to, p.updatedAt = :now, p.version = p.version + 1
+           where p.id in :ids and p.status = :from
+           """)
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("from") String from,
+                     @Param("to") String to,
+                     @Param("now") LocalDateTime now);
+
+    // Single-row state transition; 0 when missing or not in :from
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+           update Property p
+           set p.status = :to, p.updatedAt = :now, p.version = p.version + 1
+           where p.id = :id and p.status = :from
+           """)
+    int transitionStatus(@Param("id") Long id,
+                         @Param("from") String from,
+                         @Param("to") String to,
+                         @Param("now") LocalDateTime now);
+
+    /* ======================
+       LISTING CARDS
+    ====================== */
+
+    // first page only; deeper pages are keyset-specific and not worth caching
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+           select new com.app.dto.PropertyCard(
+               p.id, p.title, p.price, p.city, p.propertyType,
+               p.areaSqft, coalesce(i.thumbnailUrl, i.imageUrl), p.createdAt)
+           from Property p
+           left join PropertyImage i on i.id = p.primaryImageId
+           where p.status = 'APPROVED'
+           order by p.createdAt desc, p.id desc
+           """)
+    List<PropertyCard> findApprovedCards(Limit limit);
+
+    @Query("""
+           select new com.app.dto.PropertyCard(
+               p.id, p.title, p.price, p.city, p.propertyType,
+               p.areaSqft, coalesce(i.thumbnailUrl, i.imageUrl), p.createdAt)
+           from Property p
+           left join PropertyImage i on i.id = p.primaryImageId
+           where p.status = 'APPROVED'
+             and (p.createdAt < :createdAt
+                  or (p.createdAt = :createdAt and p.id < :id))
+           order by p.createdAt desc, p.id desc
+           """)
+    List<PropertyCard> findApprovedCardsAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit);
 }
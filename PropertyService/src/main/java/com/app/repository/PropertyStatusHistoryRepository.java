@@ -0,0 +1,33 @@
+package com.app.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.app.dto.StatusCount;
+import com.app.model.PropertyStatusHistory;
+
+public interface PropertyStatusHistoryRepository
+        extends JpaRepository<PropertyStatusHistory, Long> {
+
+    // time range in index order of (changed_at, id), no count query
+    Slice<PropertyStatusHistory> findByChangedAtGreaterThanEqualAndChangedAtLessThanOrderByChangedAtAscIdAsc(
+            LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    List<PropertyStatusHistory> findByPropertyIdOrderByIdAsc(Long propertyId);
+
+    // transitions per target status, e.g. approvals vs rejections per day
+    @Query("""
+           select new com.app.dto.StatusCount(h.toStatus, count(h))
+           from PropertyStatusHistory h
+           where h.changedAt >= :from and h.changedAt < :to
+           group by h.toStatus
+           """)
+    List<StatusCount> countByToStatus(@Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,28 @@
+package com.app.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import com.app.model.SavedSearchNotification;
+
+import jakarta.persistence.LockModeType;
+
+public interface SavedSearchNotificationRepository
+        extends JpaRepository<SavedSearchNotification, Long> {
+
+    // pending queue, grouped by user; locked so only one dispatcher sends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+           select n from SavedSearchNotification n
+           where n.sentAt is null
+           order by n.userId, n.id
+           """)
+    List<SavedSearchNotification> lockPending(Limit limit);
+
+    // inbox, newest first
+    List<SavedSearchNotification> findByUserIdOrderByIdDesc(Long userId, Limit limit);
+}
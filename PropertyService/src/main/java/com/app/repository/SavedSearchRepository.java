@@ -0,0 +1,14 @@
+package com.app.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.app.model.SavedSearch;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByUserIdOrderByIdAsc(Long userId);
+
+    long countByUserId(Long userId);
+}
@@ -0,0 +1,39 @@
+package com.app.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.dto.ChangeFeedPage;
+import com.app.outbox.OutboxMessage;
+import com.app.repository.PropertyOutboxRepository;
+
+@Service
+public class ChangeFeedService {
+
+    private final PropertyOutboxRepository repository;
+
+    public ChangeFeedService(PropertyOutboxRepository repository) {
+        this.repository = repository;
+    }
+
+    // Only relayed events are served, so the feed never runs ahead of the transport
+    @Transactional(readOnly = true)
+    public ChangeFeedPage read(long after, int limit) {
+
+        List<OutboxMessage> events = repository
+                .findByFeedOffsetGreaterThanOrderByFeedOffsetAsc(
+                        after, Limit.of(limit))
+                .stream()
+                .map(OutboxMessage::of)
+                .toList();
+
+        long next = events.isEmpty()
+                ? after
+                : events.get(events.size() - 1).offset();
+
+        return new ChangeFeedPage(events, next);
+    }
+}
@@ -0,0 +1,176 @@
+package com.app.service;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Content-addressed image store on the local disk.
+ *
+ * Uploads are streamed through a channel into a temp file while the
+ * SHA-256 is computed, then moved to {@code <root>/<hh>/<sha256>.<ext>}.
+ * Identical bytes map to the same file, so duplicates are stored once.
+ */
+@Service
+public class ImageStorageService {
+
+    public static final String URL_PREFIX = "/properties/media/";
+
+    // <sha256>[-w<width>].<ext>
+    private static final Pattern FILE_NAME =
+            Pattern.compile("[0-9a-f]{64}(-w\\d{2,4})?\\.(jpg|png|webp)");
+
+    private static final long TRANSFER_CHUNK = 1 << 20;
+
+    private final Path root;
+    private final Path tmp;
+
+    public record StoredImage(String contentHash, String fileName, long size) {
+    }
+
+    public ImageStorageService(
+            @Value("${property.images.storage-dir:data/images}") String root)
+            throws IOException {
+
+        this.root = Files.createDirectories(Path.of(root).toAbsolutePath());
+        this.tmp = Files.createDirectories(this.root.resolve("tmp"));
+    }
+
+    public StoredImage store(InputStream in) throws IOException {
+
+        BufferedInputStream input = new BufferedInputStream(in);
+        String extension = sniffExtension(input);
+
+        MessageDigest sha256 = sha256();
+        Path part = Files.createTempFile(tmp, "upload-", ".part");
+
+        try {
+            long size = 0;
+            try (ReadableByteChannel src =
+                         Channels.newChannel(new DigestInputStream(input, sha256));
+                 FileChannel dst = FileChannel.open(part, StandardOpenOption.WRITE)) {
+
+                long n;
+                while ((n = dst.transferFrom(src, size, TRANSFER_CHUNK)) > 0) {
+                    size += n;
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            String fileName = hash + "." + extension;
+            Path target = resolve(fileName);
+
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // same content already stored
+            }
+
+            return new StoredImage(hash, fileName, size);
+
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    // Derived files (thumbnails, resized variants) are written as JPEG
+    public void storeVariant(String fileName, BufferedImage image) throws IOException {
+
+        Path target = resolve(fileName);
+        Files.createDirectories(target.getParent());
+
+        Path part = Files.createTempFile(tmp, "variant-", ".part");
+        try {
+            if (!ImageIO.write(image, "jpg", part.toFile())) {
+                throw new IOException("No JPEG writer available");
+            }
+            Files.move(part, target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    public Path resolve(String fileName) {
+        if (!isValidName(fileName)) {
+            throw new IllegalArgumentException("Invalid image name");
+        }
+        return root.resolve(fileName.substring(0, 2)).resolve(fileName);
+    }
+
+    public boolean isValidName(String fileName) {
+        return fileName != null && FILE_NAME.matcher(fileName).matches();
+    }
+
+    public String urlOf(String fileName) {
+        return URL_PREFIX + fileName;
+    }
+
+    // Inverse of urlOf; null for URLs that are not stored here
+    public String fileNameOf(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String fileName = imageUrl.substring(URL_PREFIX.length());
+        return isValidName(fileName) ? fileName : null;
+    }
+
+    /* ======================
+       HELPERS
+    ====================== */
+
+    // Trust the magic bytes, not the client's Content-Type
+    private static String sniffExtension(BufferedInputStream in) throws IOException {
+
+        in.mark(12);
+        byte[] head = in.readNBytes(12);
+        in.reset();
+
+        if (head.length >= 3
+                && (head[0] & 0xFF) == 0xFF
+                && (head[1] & 0xFF) == 0xD8
+                && (head[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (head.length >= 8
+                && (head[0] & 0xFF) == 0x89
+                && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+            return "png";
+        }
+        if (head.length >= 12
+                && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return "webp";
+        }
+        throw new IllegalArgumentException("Only JPEG, PNG and WebP images are accepted");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
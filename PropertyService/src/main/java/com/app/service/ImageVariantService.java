@@ -0,0 +1,313 @@
+package com.app.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.cache.PropertyCache;
+import com.app.model.PropertyImage;
+import com.app.repository.PropertyImageRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Background generation of a fixed-size thumbnail and responsive widths
+ * for stored images.
+ *
+ * Work runs on a small pool with a bounded queue. When the queue is full
+ * the image simply stays PENDING and the periodic sweep enqueues it
+ * later, so uploads never block on image processing. Failures are retried
+ * with exponential backoff before the image is marked FAILED.
+ *
+ * Dimensions are read from the header before anything is decoded: a small,
+ * highly compressed file can expand to gigabytes of pixels, so images over
+ * the pixel budget are marked FAILED without being decoded.
+ */
+@Service
+public class ImageVariantService {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ImageVariantService.class);
+
+    public static final String PENDING = "PENDING";
+    public static final String READY = "READY";
+    public static final String FAILED = "FAILED";
+
+    private static final int THUMB_WIDTH = 320;
+    private static final int THUMB_HEIGHT = 240;
+    private static final int[] RESPONSIVE_WIDTHS = { 640, 1280 };
+
+    private final PropertyImageRepository imageRepo;
+    private final ImageStorageService storage;
+    private final PropertyCache cache;
+    private final long maxPixels;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService retries =
+            Executors.newSingleThreadScheduledExecutor(named("image-variant-retry"));
+
+    // queued or running, so the sweep does not enqueue twice
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(
+            PropertyImageRepository imageRepo,
+            ImageStorageService storage,
+            PropertyCache cache,
+            @Value("${property.images.variants.max-pixels:25000000}") long maxPixels,
+            @Value("${property.images.variants.threads:2}") int threads,
+            @Value("${property.images.variants.queue-capacity:100}") int queueCapacity,
+            @Value("${property.images.variants.max-attempts:3}") int maxAttempts,
+            @Value("${property.images.variants.retry-backoff-ms:2000}") long retryBackoffMs) {
+
+        this.imageRepo = imageRepo;
+        this.storage = storage;
+        this.cache = cache;
+        this.maxPixels = maxPixels;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+
+        this.workers = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                named("image-variant"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /* ======================
+       SUBMISSION
+    ====================== */
+
+    // false when the queue is full; the sweep picks the image up later
+    public boolean submit(Long imageId) {
+        if (!inFlight.add(imageId)) {
+            return true;
+        }
+        return enqueue(imageId, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${property.images.variants.sweep-interval-ms:60000}")
+    public void sweepPending() {
+
+        int capacity = workers.getQueue().remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+
+        for (PropertyImage image :
+                imageRepo.findByVariantStatusOrderByIdAsc(PENDING, Limit.of(capacity))) {
+            if (!submit(image.getId())) {
+                break;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retries.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private boolean enqueue(Long imageId, int attempt) {
+        try {
+            workers.execute(() -> process(imageId, attempt));
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(imageId);
+            return false;
+        }
+    }
+
+    /* ======================
+       PROCESSING
+    ====================== */
+
+    private void process(Long imageId, int attempt) {
+
+        try {
+            PropertyImage image = imageRepo.findById(imageId).orElse(null);
+            String fileName = image == null ? null : storage.fileNameOf(image.getImageUrl());
+
+            if (fileName == null || image.getContentHash() == null) {
+                inFlight.remove(imageId);
+                return;
+            }
+
+            BufferedImage source = decode(imageId, storage.resolve(fileName));
+            if (source == null) {
+                // unsupported format or over the pixel budget: not retryable
+                recordVariants(imageId, null, null, FAILED);
+                inFlight.remove(imageId);
+                return;
+            }
+
+            String hash = image.getContentHash();
+
+            String thumbName = variantName(hash, THUMB_WIDTH);
+            storage.storeVariant(thumbName, cropAndScale(source, THUMB_WIDTH, THUMB_HEIGHT));
+
+            List<String> srcset = new ArrayList<>();
+            for (int width : RESPONSIVE_WIDTHS) {
+                if (width >= source.getWidth()) {
+                    break;
+                }
+                String name = variantName(hash, width);
+                storage.storeVariant(name, scaleToWidth(source, width));
+                srcset.add(storage.urlOf(name) + " " + width + "w");
+            }
+            srcset.add(image.getImageUrl() + " " + source.getWidth() + "w");
+
+            recordVariants(
+                    imageId, storage.urlOf(thumbName), String.join(", ", srcset), READY);
+            inFlight.remove(imageId);
+
+        } catch (IOException | RuntimeException e) {
+            retryOrFail(imageId, attempt, e);
+        }
+    }
+
+    private void retryOrFail(Long imageId, int attempt, Exception cause) {
+
+        if (attempt < maxAttempts) {
+            long delay = retryBackoffMs << (attempt - 1);
+            log.warn("Variant generation for image {} failed (attempt {}), retrying in {} ms",
+                    imageId, attempt, delay, cause);
+            retries.schedule(() -> {
+                if (!enqueue(imageId, attempt + 1)) {
+                    log.warn("Variant queue full, image {} left for the sweep", imageId);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        log.error("Variant generation for image {} failed after {} attempts",
+                imageId, attempt, cause);
+        try {
+            recordVariants(imageId, null, null, FAILED);
+        } finally {
+            inFlight.remove(imageId);
+        }
+    }
+
+    // Cached properties carry their images, so drop the owner once the
+    // variant columns change rather than serving null thumbnails until expiry
+    private void recordVariants(Long imageId, String thumbnailUrl, String srcset, String status) {
+        imageRepo.updateVariants(imageId, thumbnailUrl, srcset, status);
+        imageRepo.findPropertyIdById(imageId).ifPresent(cache::evict);
+    }
+
+    /* ======================
+       IMAGING
+    ====================== */
+
+    // null when no ImageIO reader handles the format (e.g. WebP) or the
+    // header declares more pixels than the budget allows
+    private BufferedImage decode(Long imageId, Path file) throws IOException {
+
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("Image {} is {}x{}, over the {} pixel budget",
+                            imageId, reader.getWidth(0), reader.getHeight(0), maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static String variantName(String hash, int width) {
+        return hash + "-w" + width + ".jpg";
+    }
+
+    // Center crop to the target aspect ratio, then scale
+    private static BufferedImage cropAndScale(BufferedImage src, int width, int height) {
+
+        double targetRatio = (double) width / height;
+        int cropW = src.getWidth();
+        int cropH = (int) Math.round(cropW / targetRatio);
+
+        if (cropH > src.getHeight()) {
+            cropH = src.getHeight();
+            cropW = (int) Math.round(cropH * targetRatio);
+        }
+
+        int x = (src.getWidth() - cropW) / 2;
+        int y = (src.getHeight() - cropH) / 2;
+
+        return draw(src.getSubimage(x, y, cropW, cropH), width, height);
+    }
+
+    private static BufferedImage scaleToWidth(BufferedImage src, int width) {
+        int height = Math.max(1, (int) Math.round(
+                (double) src.getHeight() * width / src.getWidth()));
+        return draw(src, width, height);
+    }
+
+    // RGB canvas: JPEG has no alpha channel
+    private static BufferedImage draw(BufferedImage src, int width, int height) {
+
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING,
+                    RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private static ThreadFactory named(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread t = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.app.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.app.dto.PropertyExportRow;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PreDestroy;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON catalog export over a MySQL server-side cursor.
+ *
+ * Cursor fetching turns every prepared statement into a server-side
+ * cursor, so it is enabled only on this service's own small pool rather
+ * than on spring.datasource.url. The pool opens connections on demand and
+ * can be pointed at a replica with property.export.datasource.url.
+ */
+@Service
+public class PropertyExportService {
+
+    private static final byte NEWLINE = '\n';
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_APPROVED_AFTER =
+            "SELECT id, title, description, price, area_sqft, property_type, "
+          + "address_line, city, state, pincode, owner_id, status, created_at, updated_at "
+          + "FROM properties WHERE status = 'APPROVED' AND id > ? ORDER BY id";
+
+    private final ObjectMapper objectMapper;
+    private final HikariDataSource cursorPool;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PropertyExportService(
+            ObjectMapper objectMapper,
+            @Value("${property.export.datasource.url:${spring.datasource.url}}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${property.export.pool-size:2}") int poolSize) {
+
+        this.objectMapper = objectMapper;
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("export");
+        config.setJdbcUrl(withCursorFetch(url));
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(0);
+        config.setInitializationFailTimeout(-1);
+        config.setReadOnly(true);
+        this.cursorPool = new HikariDataSource(config);
+
+        this.jdbcTemplate = new JdbcTemplate(cursorPool);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    // Writes APPROVED properties with id > afterId as NDJSON, in id order.
+    // Rows arrive FETCH_SIZE at a time, so memory stays flat.
+    public long exportApproved(long afterId, OutputStream out) throws IOException {
+
+        long written = 0;
+
+        try (Stream<PropertyExportRow> rows = jdbcTemplate.queryForStream(
+                SELECT_APPROVED_AFTER, PropertyExportService::toRow, afterId)) {
+
+            Iterator<PropertyExportRow> it = rows.iterator();
+            while (it.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(it.next()));
+                out.write(NEWLINE);
+                written++;
+            }
+        }
+
+        out.flush();
+        return written;
+    }
+
+    @PreDestroy
+    public void close() {
+        cursorPool.close();
+    }
+
+    private static String withCursorFetch(String url) {
+        if (url.contains("useCursorFetch=")) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + "useCursorFetch=true";
+    }
+
+    private static PropertyExportRow toRow(ResultSet rs, int rowNum) throws SQLException {
+        return new PropertyExportRow(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getObject("price", Double.class),
+                rs.getObject("area_sqft", Integer.class),
+                rs.getString("property_type"),
+                rs.getString("address_line"),
+                rs.getString("city"),
+                rs.getString("state"),
+                rs.getString("pincode"),
+                rs.getObject("owner_id", Long.class),
+                rs.getString("status"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+    }
+}
@@ -3,7 +3,9 @@ package com.app.service;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.app.cache.PropertyCache;
 import com.app.model.Property;
 import com.app.model.PropertyImage;
 import com.app.repository.PropertyImageRepository;
@@ -14,16 +16,30 @@ public class PropertyImageService {
 
     private final PropertyImageRepository imageRepo;
     private final PropertyRepository propertyRepo;
+    private final PropertyCache cache;
 
     public PropertyImageService(PropertyImageRepository imageRepo,
-                                PropertyRepository propertyRepo) {
+                                PropertyRepository propertyRepo,
+                                PropertyCache cache) {
         this.imageRepo = imageRepo;
         this.propertyRepo = propertyRepo;
+        this.cache = cache;
     }
 
+    // same transaction as the overload below: a self-call bypasses the proxy
+    @Transactional
     public PropertyImage uploadImage(Long propertyId,
                                      String imageUrl,
                                      Boolean isPrimary) {
+        return uploadImage(propertyId, imageUrl, null, isPrimary);
+    }
+
+    // Image row, primary flags and properties.primary_image_id change together
+    @Transactional
+    public PropertyImage uploadImage(Long propertyId,
+                                     String imageUrl,
+                                     String contentHash,
+                                     Boolean isPrimary) {
 
         Property property = propertyRepo.findById(propertyId)
                 .orElseThrow(() -> new RuntimeException("Property not found"));
@@ -31,11 +47,31 @@ public class PropertyImageService {
         PropertyImage image = new PropertyImage();
         image.setImageUrl(imageUrl);
         image.setIsPrimary(isPrimary);
+        image.setContentHash(contentHash);
+        if (contentHash != null) {
+            image.setVariantStatus(ImageVariantService.PENDING);
+        }
         image.setProperty(property);
 
-        return imageRepo.save(image);
+        PropertyImage saved = imageRepo.save(image);
+
+        if (Boolean.TRUE.equals(isPrimary)) {
+            imageRepo.clearPrimaryExcept(propertyId, saved.getId());
+            property.setPrimaryImageId(saved.getId());
+        } else if (property.getPrimaryImageId() == null) {
+            // first image doubles as the card image until a primary is set
+            property.setPrimaryImageId(saved.getId());
+        }
+
+        cache.evictAfterCommit(propertyId);
+        return saved;
+    }
+
+    public boolean propertyExists(Long propertyId) {
+        return propertyRepo.existsById(propertyId);
     }
 
+    @Transactional(readOnly = true)
     public List<PropertyImage> getImages(Long propertyId) {
         return imageRepo.findByPropertyId(propertyId);
     }
@@ -0,0 +1,364 @@
+package com.app.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.dto.ImportReport;
+import com.app.dto.ImportReport.RowError;
+import com.app.dto.PropertyImportRow;
+import com.app.event.PropertyChangedEvent;
+import com.app.index.DuplicateListingIndex;
+import com.app.model.Property;
+import com.app.model.PropertyImage;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Bulk listing import. Input is streamed line by line, each row is
+ * validated on its own, and valid rows are persisted in chunks: one
+ * transaction per chunk, inserts sent as JDBC batches (sequence ids, see
+ * hibernate.jdbc.batch_size). A chunk the database rejects is retried
+ * row by row, so only the offending rows are reported. Imported
+ * listings start as PENDING.
+ */
+@Service
+public class PropertyImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    // column sizes: VARCHAR(255) text, VARCHAR(100) search keys, TEXT
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_IMAGE_URL_LENGTH = 500;
+    private static final int MAX_DESCRIPTION_BYTES = 65_535;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final DuplicateListingIndex duplicateIndex;
+    private final ApplicationEventPublisher events;
+
+    public PropertyImportService(EntityManager entityManager,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper,
+                                 DuplicateListingIndex duplicateIndex,
+                                 ApplicationEventPublisher events) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.duplicateIndex = duplicateIndex;
+        this.events = events;
+    }
+
+    public ImportReport importProperties(InputStream in, Format format) throws IOException {
+
+        Report report = new Report();
+        List<PropertyImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<Long> chunkLines = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8))) {
+
+            String[] header = null;
+            String line;
+            long lineNo = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                if (format == Format.CSV && header == null) {
+                    header = parseCsvLine(line);
+                    continue;
+                }
+
+                report.totalRows++;
+
+                try {
+                    PropertyImportRow row = format == Format.CSV
+                            ? fromCsv(header, parseCsvLine(line))
+                            : objectMapper.readValue(line, PropertyImportRow.class);
+
+                    String error = validate(row);
+                    if (error != null) {
+                        report.fail(lineNo, error);
+                        continue;
+                    }
+
+                    chunk.add(row);
+                    chunkLines.add(lineNo);
+
+                } catch (RuntimeException e) {
+                    report.fail(lineNo, "Unreadable row: " + e.getMessage());
+                    continue;
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    persistChunk(chunk, chunkLines, report);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            persistChunk(chunk, chunkLines, report);
+        }
+
+        return report.toReport();
+    }
+
+    /* ======================
+       PERSISTENCE
+    ====================== */
+
+    private void persistChunk(List<PropertyImportRow> chunk, List<Long> lines, Report report) {
+
+        try {
+            persist(chunk.stream().map(this::toProperty).toList());
+            report.imported += chunk.size();
+
+        } catch (RuntimeException e) {
+            // fresh entities: the failed ones already carry sequence ids
+            for (int i = 0; i < chunk.size(); i++) {
+                try {
+                    persist(List.of(toProperty(chunk.get(i))));
+                    report.imported++;
+                } catch (RuntimeException rowError) {
+                    report.fail(lines.get(i), "Rejected by database: " + rootMessage(rowError));
+                }
+            }
+        }
+
+        chunk.clear();
+        lines.clear();
+    }
+
+    // One transaction: batched inserts, then a single change event
+    private void persist(List<Property> properties) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Property p : properties) {
+                entityManager.persist(p);
+
+                // sequence ids are assigned on persist, before the insert
+                List<PropertyImage> images = p.getImages();
+                if (!images.isEmpty()) {
+                    p.setPrimaryImageId(images.get(0).getId());
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            events.publishEvent(new PropertyChangedEvent(properties, null));
+        });
+    }
+
+    private Property toProperty(PropertyImportRow row) {
+
+        Property p = new Property();
+        p.setTitle(row.title().trim());
+        p.setDescription(row.description().trim());
+        p.setPrice(row.price());
+        p.setAreaSqft(row.areaSqft());
+        p.setPropertyType(row.propertyType().trim());
+        p.setAddressLine(row.addressLine().trim());
+        p.setCity(row.city().trim());
+        p.setState(row.state().trim());
+        p.setPincode(row.pincode().trim());
+        p.setOwnerId(row.ownerId());
+        p.setStatus("PENDING");
+        p.setImages(new ArrayList<>());
+        duplicateIndex.fingerprint(p);
+
+        if (row.imageUrls() != null) {
+            boolean first = true;
+            for (String url : row.imageUrls()) {
+                if (url == null || url.isBlank()) {
+                    continue;
+                }
+                PropertyImage img = new PropertyImage();
+                img.setImageUrl(url.trim());
+                img.setIsPrimary(first);
+                p.addImage(img);
+                first = false;
+            }
+        }
+        return p;
+    }
+
+    /* ======================
+       VALIDATION
+    ====================== */
+
+    private static String validate(PropertyImportRow row) {
+
+        if (isBlank(row.title())) return "title is required";
+        if (isBlank(row.description())) return "description is required";
+        // NaN fails every comparison, so it is rejected explicitly
+        if (row.price() == null || !Double.isFinite(row.price()) || row.price() <= 0) {
+            return "price must be a positive finite number";
+        }
+        if (row.areaSqft() == null || row.areaSqft() <= 0) return "areaSqft must be positive";
+        if (isBlank(row.propertyType())) return "propertyType is required";
+        if (isBlank(row.addressLine())) return "addressLine is required";
+        if (isBlank(row.city())) return "city is required";
+        if (isBlank(row.state())) return "state is required";
+        if (isBlank(row.pincode())) return "pincode is required";
+        if (row.ownerId() == null) return "ownerId is required";
+
+        if (tooLong(row.title(), MAX_TEXT_LENGTH)) return "title longer than 255 characters";
+        if (tooLong(row.addressLine(), MAX_TEXT_LENGTH)) return "addressLine longer than 255 characters";
+        if (tooLong(row.state(), MAX_TEXT_LENGTH)) return "state longer than 255 characters";
+        if (tooLong(row.pincode(), MAX_TEXT_LENGTH)) return "pincode longer than 255 characters";
+        // city and propertyType also feed the 100-character search keys
+        if (tooLong(row.city(), MAX_KEY_LENGTH)) return "city longer than 100 characters";
+        if (tooLong(row.propertyType(), MAX_KEY_LENGTH)) return "propertyType longer than 100 characters";
+        if (row.description().trim().getBytes(StandardCharsets.UTF_8).length > MAX_DESCRIPTION_BYTES) {
+            return "description longer than 65535 bytes";
+        }
+
+        if (row.imageUrls() != null) {
+            for (String url : row.imageUrls()) {
+                if (url != null && tooLong(url, MAX_IMAGE_URL_LENGTH)) {
+                    return "imageUrl longer than 500 characters";
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+
+    // as stored: trimmed, counted in characters (code points) like MySQL
+    private static boolean tooLong(String s, int max) {
+        String trimmed = s.trim();
+        return trimmed.codePointCount(0, trimmed.length()) > max;
+    }
+
+    /* ======================
+       CSV
+       header: title,description,price,areaSqft,propertyType,addressLine,
+               city,state,pincode,ownerId,imageUrls (imageUrls split on |)
+    ====================== */
+
+    private static PropertyImportRow fromCsv(String[] header, String[] values) {
+
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.length && i < values.length; i++) {
+            row.put(header[i].trim().toLowerCase(Locale.ROOT), values[i]);
+        }
+
+        String images = row.get("imageurls");
+
+        return new PropertyImportRow(
+                row.get("title"),
+                row.get("description"),
+                parseDouble(row.get("price")),
+                parseInt(row.get("areasqft")),
+                row.get("propertytype"),
+                row.get("addressline"),
+                row.get("city"),
+                row.get("state"),
+                row.get("pincode"),
+                parseLong(row.get("ownerid")),
+                isBlank(images) ? List.of() : Arrays.asList(images.split("\\|")));
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and ""
+    static String[] parseCsvLine(String line) {
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        return fields.toArray(String[]::new);
+    }
+
+    private static Double parseDouble(String s) {
+        return isBlank(s) ? null : Double.valueOf(s.trim());
+    }
+
+    private static Integer parseInt(String s) {
+        return isBlank(s) ? null : Integer.valueOf(s.trim());
+    }
+
+    private static Long parseLong(String s) {
+        return isBlank(s) ? null : Long.valueOf(s.trim());
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    /* ======================
+       REPORT
+    ====================== */
+
+    private static final class Report {
+
+        long totalRows;
+        long imported;
+        long failed;
+        final List<RowError> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, message));
+            }
+        }
+
+        ImportReport toReport() {
+            return new ImportReport(
+                    totalRows, imported, failed, errors, failed > errors.size());
+        }
+    }
+}
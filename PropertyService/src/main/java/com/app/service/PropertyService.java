@@ -1,23 +1,103 @@
 package com.app.service;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import com.app.cache.PropertyCache;
+import com.app.cache.SecondLevelCacheStats;
+import com.app.dto.BulkStatusItem;
+import com.app.dto.BulkStatusItem.Outcome;
+import com.app.dto.BulkStatusResponse;
+import com.app.dto.CursorPage;
+import com.app.dto.FacetCounts;
+import com.app.dto.PropertyCard;
+import com.app.dto.SlicePage;
+import com.app.dto.Suggestion;
+import com.app.dto.TrendingProperty;
+import com.app.event.PropertyChangedEvent;
+import com.app.index.DuplicateListingIndex;
+import com.app.index.PropertyFullTextIndex;
+import com.app.index.PropertySearchIndex;
+import com.app.index.PropertyStatusCounter;
+import com.app.index.PropertyViewCounter;
+import com.app.index.SimilarPropertyIndex;
+import com.app.index.SuggestionIndex;
 import com.app.model.Property;
+import com.app.model.PropertyImage;
 import com.app.repository.PropertyRepository;
+import com.app.specification.PropertyCursor;
+import com.app.specification.PropertySort;
 import com.app.specification.PropertySpecification;
 
 @Service
 public class PropertyService {
 
+    // ids per locking SELECT / conditional UPDATE round trip
+    private static final int BULK_CHUNK_SIZE = 500;
+
+    // full-text candidates considered when keyword search is sorted
+    private static final int MAX_SORTED_SEARCH_HITS = 1000;
+
     private final PropertyRepository repository;
+    private final PropertySearchIndex searchIndex;
+    private final PropertyFullTextIndex fullTextIndex;
+    private final PropertyStatusCounter statusCounter;
+    private final SimilarPropertyIndex similarIndex;
+    private final DuplicateListingIndex duplicateIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final PropertyViewCounter viewCounter;
+    private final PropertyCache cache;
+    private final SecondLevelCacheStats secondLevelStats;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate primaryReads;
 
-    public PropertyService(PropertyRepository repository) {
+    public PropertyService(PropertyRepository repository,
+                           PropertySearchIndex searchIndex,
+                           PropertyFullTextIndex fullTextIndex,
+                           PropertyStatusCounter statusCounter,
+                           SimilarPropertyIndex similarIndex,
+                           DuplicateListingIndex duplicateIndex,
+                           SuggestionIndex suggestionIndex,
+                           PropertyViewCounter viewCounter,
+                           PropertyCache cache,
+                           SecondLevelCacheStats secondLevelStats,
+                           ApplicationEventPublisher events,
+                           PlatformTransactionManager transactionManager) {
         this.repository = repository;
+        this.searchIndex = searchIndex;
+        this.fullTextIndex = fullTextIndex;
+        this.statusCounter = statusCounter;
+        this.similarIndex = similarIndex;
+        this.duplicateIndex = duplicateIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.viewCounter = viewCounter;
+        this.cache = cache;
+        this.secondLevelStats = secondLevelStats;
+        this.events = events;
+
+        // read-write, hence never routed to a replica
+        this.primaryReads = new TransactionTemplate(transactionManager);
+        this.primaryReads.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /* ======================
@@ -25,9 +105,15 @@ public class PropertyService {
     ====================== */
 
     // Add property
+    @Transactional
     public Property addProperty(Property property) {
         property.setStatus("PENDING");
-        return repository.save(property);
+        duplicateIndex.fingerprint(property);
+
+        Property saved = repository.save(property);
+        assignPrimaryImage(saved);
+        events.publishEvent(PropertyChangedEvent.of(saved, null));
+        return saved;
     }
 
     /* ======================
@@ -35,35 +121,111 @@ public class PropertyService {
     ====================== */
 
     // Approve property
-    public Property approveProperty(Long id) {
+    @Transactional
+    public Property approveProperty(Long id, Long actorId) {
+        return transition(id, "APPROVED", actorId);
+    }
+
+    // Reject property
+    @Transactional
+    public Property rejectProperty(Long id, Long actorId) {
+        return transition(id, "REJECTED", actorId);
+    }
+
+    // PENDING -> target as one conditional UPDATE, so concurrent admins
+    // cannot both win; the loser gets IllegalStateException
+    private Property transition(Long id, String target, Long actorId) {
+
+        int updated = repository.transitionStatus(
+                id, "PENDING", target, LocalDateTime.now());
 
-        Property property = repository.findById(id)
+        if (updated == 0) {
+            if (!repository.existsById(id)) {
+                throw new RuntimeException("Property not found");
+            }
+            throw new IllegalStateException(
+                    "Only PENDING properties can be "
+                            + ("APPROVED".equals(target) ? "approved" : "rejected"));
+        }
+
+        Property saved = repository.findWithImagesById(id)
                 .orElseThrow(() ->
                         new RuntimeException("Property not found"));
 
-        if (!"PENDING".equals(property.getStatus())) {
-            throw new RuntimeException(
-                    "Only PENDING properties can be approved");
+        // the cache drops the row once this commits (PropertyCache listener)
+        events.publishEvent(PropertyChangedEvent.of(saved, "PENDING", actorId));
+        return saved;
+    }
+
+    // Bulk PENDING -> APPROVED/REJECTED in one transaction.
+    // Rows are locked per chunk, classified, then moved with one
+    // conditional UPDATE; caches and indexes get a single notification.
+    @Transactional
+    public BulkStatusResponse bulkUpdateStatus(List<Long> ids, String status, Long actorId) {
+
+        String target = status == null ? "" : status.toUpperCase();
+        if (!"APPROVED".equals(target) && !"REJECTED".equals(target)) {
+            throw new IllegalArgumentException(
+                    "Target status must be APPROVED or REJECTED");
         }
 
-        property.setStatus("APPROVED");
-        return repository.save(property);
-    }
+        List<Long> unique = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        List<BulkStatusItem> results = new ArrayList<>(unique.size());
+        List<Property> transitioned = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        int notFound = 0;
+        int wrongState = 0;
 
-    // Reject property
-    public Property rejectProperty(Long id) {
+        for (int from = 0; from < unique.size(); from += BULK_CHUNK_SIZE) {
 
-        Property property = repository.findById(id)
-                .orElseThrow(() ->
-                        new RuntimeException("Property not found"));
+            List<Long> chunk = unique.subList(
+                    from, Math.min(from + BULK_CHUNK_SIZE, unique.size()));
 
-        if (!"PENDING".equals(property.getStatus())) {
-            throw new RuntimeException(
-                    "Only PENDING properties can be rejected");
+            Map<Long, Property> locked = repository.lockAllById(chunk)
+                    .stream()
+                    .collect(Collectors.toMap(Property::getId, Function.identity()));
+
+            List<Property> pending = new ArrayList<>();
+
+            for (Long id : chunk) {
+                Property p = locked.get(id);
+
+                if (p == null) {
+                    results.add(new BulkStatusItem(id, Outcome.NOT_FOUND, null));
+                    notFound++;
+                } else if (!"PENDING".equals(p.getStatus())) {
+                    results.add(new BulkStatusItem(id, Outcome.WRONG_STATE, p.getStatus()));
+                    wrongState++;
+                } else {
+                    results.add(new BulkStatusItem(id, Outcome.TRANSITIONED, null));
+                    pending.add(p);
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                repository.updateStatus(
+                        pending.stream().map(Property::getId).toList(),
+                        "PENDING", target, now);
+
+                // detached by the bulk update; mirror the new state for listeners
+                for (Property p : pending) {
+                    p.setStatus(target);
+                    p.setUpdatedAt(now);
+                }
+                transitioned.addAll(pending);
+            }
         }
 
-        property.setStatus("REJECTED");
-        return repository.save(property);
+        // one notification; the cache invalidates all ids after commit
+        if (!transitioned.isEmpty()) {
+            events.publishEvent(new PropertyChangedEvent(transitioned, "PENDING", actorId));
+        }
+
+        return new BulkStatusResponse(
+                target, transitioned.size(), notFound, wrongState, results);
     }
 
     /* ======================
@@ -71,38 +233,115 @@ public class PropertyService {
     ====================== */
 
     // 🔥 Generic admin list by status (paged)
+    // total comes from the status counters, so no count(*) per page
+    @Transactional(readOnly = true)
     public Page<Property> getPropertiesByStatusPaged(
             String status,
             Pageable pageable
     ) {
-        String s = (status == null || status.isBlank())
-                ? "PENDING"
-                : status.toUpperCase();
+        String s = adminStatus(status);
 
-        return repository.findAll(
-                PropertySpecification.hasStatus(s),
-                pageable
-        );
+        Slice<Property> slice = repository.findByStatus(s, pageable);
+        withImages(slice.getContent());
+
+        return new PageImpl<>(slice.getContent(), pageable, statusTotal(s));
+    }
+
+    // Pending listings whose fingerprint is close to an existing one
+    @Transactional(readOnly = true)
+    public Slice<Property> getSuspectedDuplicates(Pageable pageable) {
+
+        Slice<Property> slice =
+                repository.findByStatusAndDuplicateOfIdIsNotNull("PENDING", pageable);
+        withImages(slice.getContent());
+        return slice;
+    }
+
+    // Same rows without a total page count; hasNext from one extra row
+    @Transactional(readOnly = true)
+    public SlicePage<Property> getPropertiesByStatusSlice(
+            String status,
+            Pageable pageable
+    ) {
+        String s = adminStatus(status);
+
+        Slice<Property> slice = repository.findByStatus(s, pageable);
+        withImages(slice.getContent());
+
+        return new SlicePage<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext(),
+                statusTotal(s));
     }
     /* ======================
        PUBLIC
     ====================== */
 
+    @Transactional(readOnly = true)
     public List<Property> getApprovedProperties() {
+        return withImages(repository.findAllApproved());
+    }
 
-        Specification<Property> spec =
-                Specification.where(
-                        PropertySpecification.hasStatus("APPROVED"));
+    // Full list in index order of the sort key (no filesort)
+    @Transactional(readOnly = true)
+    public List<Property> getApprovedProperties(PropertySort sort) {
+
+        List<Property> rows = repository.findBy(
+                PropertySpecification.isApproved(),
+                q -> q.sortBy(sort.toSort()).all());
+
+        return withImages(rows);
+    }
+
+    // Keyset page: seeks past the cursor instead of OFFSET, no count query
+    @Transactional(readOnly = true)
+    public CursorPage<Property> getApprovedPropertiesPage(
+            PropertySort sort,
+            String cursor,
+            int size) {
 
-        return repository.findAll(spec);
+        return keysetPage(PropertySpecification.isApproved(), sort, cursor, size);
     }
 
+    // Slim listing: card columns + primary image URL, newest first
+    @Transactional(readOnly = true)
+    public CursorPage<PropertyCard> getApprovedCards(String cursor, int size) {
+
+        PropertyCursor after = PropertyCursor.decode(cursor, PropertySort.NEWEST);
+        Limit limit = Limit.of(size + 1);
+
+        List<PropertyCard> rows = after == null
+                ? repository.findApprovedCards(limit)
+                : repository.findApprovedCardsAfter(
+                        (LocalDateTime) after.key(), after.id(), limit);
+
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<PropertyCard> items = new ArrayList<>(rows.subList(0, size));
+        PropertyCard last = items.get(size - 1);
+        String next = new PropertyCursor(
+                PropertySort.NEWEST, last.createdAt(), last.id()).encode();
+
+        return new CursorPage<>(items, next);
+    }
+
+    @Transactional(readOnly = true)
     public List<Property> filterProperties(
             String city,
             String propertyType,
             Double minPrice,
             Double maxPrice) {
 
+        // in-memory index when warm, Specification query otherwise
+        if (searchIndex.isReady()) {
+            return findAllInOrder(
+                    searchIndex.search(city, propertyType, minPrice, maxPrice));
+        }
+
         Specification<Property> spec =
                 Specification.where(
                         PropertySpecification.hasStatus("APPROVED"))
@@ -111,13 +350,233 @@ public class PropertyService {
                         .and(PropertySpecification.priceBetween(
                                 minPrice, maxPrice));
 
-        return repository.findAll(spec);
+        return withImages(repository.findAll(spec));
+    }
+
+    // Facet counts come from the in-memory bitmaps, never from GROUP BY
+    public FacetCounts getFacets(
+            String city,
+            String propertyType,
+            Double minPrice,
+            Double maxPrice) {
+
+        if (!searchIndex.isReady()) {
+            throw new IllegalStateException("Search index is not available");
+        }
+        return searchIndex.facets(city, propertyType, minPrice, maxPrice);
+    }
+
+    // Place-name autocomplete, answered from memory
+    public List<Suggestion> suggest(String prefix, int limit) {
+
+        if (!suggestionIndex.isReady()) {
+            throw new IllegalStateException("Suggestion index is not available");
+        }
+        return suggestionIndex.suggest(prefix, limit);
+    }
+
+    // Keyword search: top matches by relevance, same filters as above
+    @Transactional(readOnly = true)
+    public List<Property> searchProperties(
+            String keywords,
+            String city,
+            String propertyType,
+            Double minPrice,
+            Double maxPrice,
+            int limit) {
+
+        if (keywords == null || keywords.isBlank()) {
+            return filterProperties(city, propertyType, minPrice, maxPrice);
+        }
+
+        return findAllInOrder(fullTextIndex.search(
+                keywords, city, propertyType, minPrice, maxPrice, limit));
+    }
+
+    // Sorted search page (top-k when called without a cursor). Keywords
+    // narrow the candidates to the best full-text hits, the database
+    // orders them by the sort key.
+    @Transactional(readOnly = true)
+    public CursorPage<Property> searchPropertiesPage(
+            String keywords,
+            String city,
+            String propertyType,
+            Double minPrice,
+            Double maxPrice,
+            PropertySort sort,
+            String cursor,
+            int size) {
+
+        Specification<Property> spec =
+                PropertySpecification.isApproved()
+                        .and(PropertySpecification.hasCity(city))
+                        .and(PropertySpecification.hasPropertyType(propertyType))
+                        .and(PropertySpecification.priceBetween(
+                                minPrice, maxPrice));
+
+        if (keywords != null && !keywords.isBlank()) {
+            List<Long> hits = fullTextIndex.search(
+                    keywords, city, propertyType, minPrice, maxPrice,
+                    MAX_SORTED_SEARCH_HITS);
+            if (hits.isEmpty()) {
+                return new CursorPage<>(List.of(), null);
+            }
+            spec = spec.and(PropertySpecification.idIn(hits));
+        }
+
+        return keysetPage(spec, sort, cursor, size);
     }
 
     public Property getPropertyById(Long id) {
 
-        return repository.findById(id)
-                .orElseThrow(() ->
-                        new RuntimeException("Property not found"));
+        Property property = cache.get(id, this::loadForCache);
+        if (property == null) {
+            throw new RuntimeException("Property not found");
+        }
+        return property;
+    }
+
+    // Neighbours come from the in-memory index, rows from the by-id cache
+    public List<Property> getSimilarProperties(Long id, int k) {
+
+        if (!similarIndex.isReady()) {
+            throw new IllegalStateException("Similar property index is not available");
+        }
+
+        List<Long> ids = similarIndex.similar(id, k);
+        if (ids == null) {
+            throw new RuntimeException("Property not found");
+        }
+
+        return ids.stream()
+                .map(neighbour -> cache.get(neighbour, this::loadForCache))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // Only public (APPROVED) listings count towards popularity
+    public void recordView(Property property) {
+        if ("APPROVED".equals(property.getStatus())) {
+            viewCounter.record(property.getId());
+        }
+    }
+
+    // Recent popularity from the view sketch, rows from the by-id cache
+    public List<TrendingProperty> getTrendingProperties(int limit) {
+
+        List<TrendingProperty> result = new ArrayList<>(limit);
+
+        // over-fetch: listings may have left APPROVED since their views
+        for (PropertyViewCounter.Trending t : viewCounter.trending(limit * 2)) {
+            Property p = cache.get(t.propertyId(), this::loadForCache);
+            if (p != null && "APPROVED".equals(p.getStatus())) {
+                result.add(new TrendingProperty(p, t.recentViews()));
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    public Map<String, Object> getCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(cache.stats());
+        stats.put("secondLevel", secondLevelStats.stats());
+        return stats;
+    }
+
+    /* ======================
+       HELPERS
+    ====================== */
+
+    // By-id cache misses read the primary: a lagging replica could hand
+    // back the pre-approval row right after a status change, and it would
+    // then be served for the whole TTL. Null (not cached) if missing.
+    private Property loadForCache(Long id) {
+        return primaryReads.execute(status ->
+                repository.findWithImagesById(id).orElse(null));
+    }
+
+    // size + 1 rows after the cursor in (sort key, id) order
+    private CursorPage<Property> keysetPage(
+            Specification<Property> filter,
+            PropertySort sort,
+            String cursor,
+            int size) {
+
+        Specification<Property> spec = filter.and(
+                PropertySpecification.after(PropertyCursor.decode(cursor, sort)));
+
+        List<Property> rows = repository.findBy(spec, q -> q
+                .sortBy(sort.toSort())
+                .limit(size + 1)
+                .all());
+
+        if (rows.size() <= size) {
+            return new CursorPage<>(withImages(rows), null);
+        }
+
+        List<Property> items = withImages(new ArrayList<>(rows.subList(0, size)));
+        String next = PropertyCursor.of(sort, items.get(size - 1)).encode();
+
+        return new CursorPage<>(items, next);
+    }
+
+    private static String adminStatus(String status) {
+        return (status == null || status.isBlank())
+                ? "PENDING"
+                : status.toUpperCase();
+    }
+
+    // counter when loaded, a one-off count before that
+    private long statusTotal(String status) {
+        long total = statusCounter.count(status);
+        return total >= 0 ? total : repository.countByStatus(status);
+    }
+
+    // Primary image from the payload, else the first one
+    private void assignPrimaryImage(Property property) {
+
+        List<PropertyImage> images = property.getImages();
+        if (images == null || images.isEmpty()) {
+            return;
+        }
+
+        PropertyImage primary = images.stream()
+                .filter(img -> Boolean.TRUE.equals(img.getIsPrimary()))
+                .findFirst()
+                .orElse(images.get(0));
+
+        property.setPrimaryImageId(primary.getId());
+    }
+
+    // Lists are serialized with their images: load them all in one query
+    // instead of one lazy load per property
+    private List<Property> withImages(List<Property> properties) {
+
+        if (!properties.isEmpty()) {
+            repository.fetchWithImages(
+                    properties.stream().map(Property::getId).toList());
+        }
+        return properties;
+    }
+
+    // Loads properties with images, in the requested order; drops
+    // rows whose status changed after the index answered
+    private List<Property> findAllInOrder(List<Long> ids) {
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Property> byId = repository.fetchWithImages(ids)
+                .stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .filter(p -> "APPROVED".equals(p.getStatus()))
+                .toList();
     }
 }
@@ -0,0 +1,73 @@
+package com.app.service;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.dto.StatusCount;
+import com.app.event.PropertyChangedEvent;
+import com.app.model.PropertyStatusHistory;
+import com.app.repository.PropertyStatusHistoryRepository;
+
+@Service
+public class PropertyStatusHistoryService {
+
+    private static final String INSERT =
+            "INSERT INTO property_status_history "
+          + "(property_id, from_status, to_status, actor_id, changed_at) "
+          + "VALUES (?, ?, ?, ?, ?)";
+
+    private final PropertyStatusHistoryRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PropertyStatusHistoryService(PropertyStatusHistoryRepository repository,
+                                        JdbcTemplate jdbcTemplate) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Synchronous, so the history row commits with the transition itself
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT, event.properties(), 500, (ps, p) -> {
+            ps.setLong(1, p.getId());
+            ps.setString(2, event.previousStatus());
+            ps.setString(3, p.getStatus());
+            if (event.actorId() == null) {
+                ps.setNull(4, Types.BIGINT);
+            } else {
+                ps.setLong(4, event.actorId());
+            }
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PropertyStatusHistory> findInRange(
+            LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return repository
+                .findByChangedAtGreaterThanEqualAndChangedAtLessThanOrderByChangedAtAscIdAsc(
+                        from, to, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StatusCount> summarize(LocalDateTime from, LocalDateTime to) {
+        return repository.countByToStatus(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PropertyStatusHistory> timeline(Long propertyId) {
+        return repository.findByPropertyIdOrderByIdAsc(propertyId);
+    }
+}
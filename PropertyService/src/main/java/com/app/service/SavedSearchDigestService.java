@@ -0,0 +1,81 @@
+package com.app.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.model.SavedSearchNotification;
+import com.app.notification.SavedSearchDigest;
+import com.app.notification.SavedSearchNotifier;
+import com.app.repository.SavedSearchNotificationRepository;
+
+/**
+ * Drains the saved-search notification queue: pending matches are
+ * grouped per user and sent as one digest each interval, so a burst of
+ * approvals means one message per user, not one per listing.
+ */
+@Service
+public class SavedSearchDigestService {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(SavedSearchDigestService.class);
+
+    private final SavedSearchNotificationRepository repository;
+    private final SavedSearchNotifier notifier;
+    private final int batchSize;
+
+    public SavedSearchDigestService(
+            SavedSearchNotificationRepository repository,
+            SavedSearchNotifier notifier,
+            @Value("${property.saved-search.digest-batch-size:5000}") int batchSize) {
+        this.repository = repository;
+        this.notifier = notifier;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${property.saved-search.digest-interval-ms:300000}")
+    public void sendDigests() {
+
+        List<SavedSearchNotification> pending =
+                repository.lockPending(Limit.of(batchSize));
+
+        LocalDateTime now = LocalDateTime.now();
+        int from = 0;
+
+        // rows arrive ordered by user; each run of one user is a digest
+        while (from < pending.size()) {
+            Long userId = pending.get(from).getUserId();
+            int to = from;
+            while (to < pending.size() && pending.get(to).getUserId().equals(userId)) {
+                to++;
+            }
+
+            List<SavedSearchNotification> batch = pending.subList(from, to);
+            try {
+                notifier.send(digest(userId, batch));
+                batch.forEach(n -> n.setSentAt(now));
+            } catch (RuntimeException e) {
+                // stays queued for the next run; other users are unaffected
+                log.warn("Saved search digest for user {} failed", userId, e);
+            }
+            from = to;
+        }
+    }
+
+    private static SavedSearchDigest digest(Long userId, List<SavedSearchNotification> batch) {
+        List<SavedSearchDigest.Item> items = new ArrayList<>(batch.size());
+        for (SavedSearchNotification n : batch) {
+            items.add(new SavedSearchDigest.Item(n.getSavedSearchId(), n.getPropertyId()));
+        }
+        return new SavedSearchDigest(userId, items);
+    }
+}
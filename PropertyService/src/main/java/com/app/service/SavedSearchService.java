@@ -0,0 +1,159 @@
+package com.app.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.dto.SavedSearchRequest;
+import com.app.event.PropertyChangedEvent;
+import com.app.index.SavedSearchMatcher;
+import com.app.index.SavedSearchMatcher.Match;
+import com.app.model.Property;
+import com.app.model.SavedSearch;
+import com.app.model.SavedSearchNotification;
+import com.app.model.SearchKeys;
+import com.app.repository.SavedSearchNotificationRepository;
+import com.app.repository.SavedSearchRepository;
+
+@Service
+public class SavedSearchService {
+
+    private static final int MAX_SEARCHES_PER_USER = 50;
+    private static final int MAX_KEYWORDS_LENGTH = 255;
+
+    // duplicates (same search, same listing) are dropped by the unique key
+    private static final String ENQUEUE =
+            "INSERT IGNORE INTO saved_search_notifications "
+          + "(user_id, saved_search_id, property_id, created_at) VALUES (?, ?, ?, ?)";
+
+    private record Queued(Match match, Long propertyId) {
+    }
+
+    private final SavedSearchRepository repository;
+    private final SavedSearchNotificationRepository notificationRepository;
+    private final SavedSearchMatcher matcher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate enqueueTransaction;
+
+    public SavedSearchService(SavedSearchRepository repository,
+                              SavedSearchNotificationRepository notificationRepository,
+                              SavedSearchMatcher matcher,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.notificationRepository = notificationRepository;
+        this.matcher = matcher;
+        this.jdbcTemplate = jdbcTemplate;
+
+        // after commit the finished transaction is still bound, and writes
+        // joining it would never be committed
+        this.enqueueTransaction = new TransactionTemplate(transactionManager);
+        this.enqueueTransaction.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /* ======================
+       SAVED SEARCHES
+    ====================== */
+
+    public SavedSearch create(Long userId, SavedSearchRequest request) {
+
+        if (request.minPrice() != null && request.maxPrice() != null
+                && request.minPrice() > request.maxPrice()) {
+            throw new IllegalArgumentException("minPrice must not exceed maxPrice");
+        }
+        if (repository.countByUserId(userId) >= MAX_SEARCHES_PER_USER) {
+            throw new IllegalArgumentException(
+                    "At most " + MAX_SEARCHES_PER_USER + " saved searches per user");
+        }
+
+        String keywords = String.join(" ", SavedSearchMatcher.tokens(request.keywords()));
+        if (keywords.length() > MAX_KEYWORDS_LENGTH) {
+            throw new IllegalArgumentException("Keywords are too long");
+        }
+
+        SavedSearch search = new SavedSearch();
+        search.setUserId(userId);
+        search.setCity(blankToNull(SearchKeys.city(request.city())));
+        search.setPropertyType(blankToNull(SearchKeys.type(request.propertyType())));
+        search.setMinPrice(request.minPrice());
+        search.setMaxPrice(request.maxPrice());
+        search.setKeywords(blankToNull(keywords));
+
+        // committed by save(), so the matcher never sees a rolled-back search
+        SavedSearch saved = repository.save(search);
+        matcher.add(saved);
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearch> list(Long userId) {
+        return repository.findByUserIdOrderByIdAsc(userId);
+    }
+
+    public void delete(Long userId, Long id) {
+
+        SavedSearch search = repository.findById(id)
+                .filter(s -> s.getUserId().equals(userId))
+                .orElseThrow(() ->
+                        new RuntimeException("Saved search not found"));
+
+        repository.delete(search);
+        matcher.remove(id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchNotification> notifications(Long userId, int limit) {
+        return notificationRepository.findByUserIdOrderByIdDesc(userId, Limit.of(limit));
+    }
+
+    /* ======================
+       MATCHING
+    ====================== */
+
+    // Newly approved listings go through the matcher; hits are queued
+    // for the digest dispatcher in one batch
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+
+        if (event.previousStatus() == null) {
+            return;
+        }
+
+        List<Queued> queued = new ArrayList<>();
+        for (Property p : event.properties()) {
+            if ("APPROVED".equals(p.getStatus())) {
+                for (Match m : matcher.match(p)) {
+                    queued.add(new Queued(m, p.getId()));
+                }
+            }
+        }
+
+        if (queued.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        enqueueTransaction.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(ENQUEUE, queued, 500, (ps, q) -> {
+                    ps.setLong(1, q.match().userId());
+                    ps.setLong(2, q.match().savedSearchId());
+                    ps.setLong(3, q.propertyId());
+                    ps.setTimestamp(4, now);
+                }));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,50 @@
+package com.app.specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.app.model.Property;
+
+/**
+ * Opaque keyset position: the sort key and id of the last row a client saw.
+ * Encoded as url-safe base64 of {@code SORT|key|id}.
+ */
+public record PropertyCursor(PropertySort sort, Comparable<?> key, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static PropertyCursor of(PropertySort sort, Property last) {
+        return new PropertyCursor(sort, sort.keyOf(last), last.getId());
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PropertyCursor decode(String token, PropertySort sort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(
+                    Base64.getUrlDecoder().decode(token),
+                    StandardCharsets.UTF_8);
+
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new IllegalArgumentException("Cursor does not match sort " + sort);
+            }
+            return new PropertyCursor(
+                    sort,
+                    sort.parseKey(parts[1]),
+                    Long.valueOf(parts[2]));
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.app.specification;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Sort;
+
+import com.app.model.Property;
+
+/**
+ * Orderings supported by the public listing and search. Every ordering
+ * ends with the id as a tie-breaker so it can be resumed with a keyset
+ * cursor, and each has a matching (status, key, id) index.
+ */
+public enum PropertySort {
+
+    NEWEST("createdAt", Sort.Direction.DESC) {
+        @Override
+        public Comparable<?> keyOf(Property property) {
+            return property.getCreatedAt();
+        }
+
+        @Override
+        public Comparable<?> parseKey(String value) {
+            return LocalDateTime.parse(value);
+        }
+    },
+
+    PRICE_ASC("price", Sort.Direction.ASC) {
+        @Override
+        public Comparable<?> keyOf(Property property) {
+            return property.getPrice();
+        }
+
+        @Override
+        public Comparable<?> parseKey(String value) {
+            return Double.valueOf(value);
+        }
+    },
+
+    PRICE_DESC("price", Sort.Direction.DESC) {
+        @Override
+        public Comparable<?> keyOf(Property property) {
+            return property.getPrice();
+        }
+
+        @Override
+        public Comparable<?> parseKey(String value) {
+            return Double.valueOf(value);
+        }
+    },
+
+    // largest first
+    AREA("areaSqft", Sort.Direction.DESC) {
+        @Override
+        public Comparable<?> keyOf(Property property) {
+            return property.getAreaSqft();
+        }
+
+        @Override
+        public Comparable<?> parseKey(String value) {
+            return Integer.valueOf(value);
+        }
+    },
+
+    // cheapest per sqft first
+    PRICE_PER_SQFT("pricePerSqft", Sort.Direction.ASC) {
+        @Override
+        public Comparable<?> keyOf(Property property) {
+            return property.getPricePerSqft();
+        }
+
+        @Override
+        public Comparable<?> parseKey(String value) {
+            return Double.valueOf(value);
+        }
+    };
+
+    private final String field;
+    private final Sort.Direction direction;
+
+    PropertySort(String field, Sort.Direction direction) {
+        this.field = field;
+        this.direction = direction;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Sort toSort() {
+        return Sort.by(direction, field).and(Sort.by(direction, "id"));
+    }
+
+    public abstract Comparable<?> keyOf(Property property);
+
+    public abstract Comparable<?> parseKey(String value);
+
+    public static PropertySort from(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        for (PropertySort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value.trim())) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + value);
+    }
+}
@@ -1,7 +1,14 @@
 package com.app.specification;
 
+import java.util.Collection;
+
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Path;
+
 import com.app.model.Property;
+import com.app.model.SearchKeys;
 
 public class PropertySpecification {
 
@@ -14,7 +21,7 @@ public class PropertySpecification {
             if (city == null || city.isBlank()) {
                 return cb.conjunction();
             }
-            return cb.equal(cb.lower(root.get("city")), city.toLowerCase());
+            return cb.equal(root.get("cityKey"), SearchKeys.city(city));
         };
     }
 
@@ -23,7 +30,7 @@ public class PropertySpecification {
             if (type == null || type.isBlank()) {
                 return cb.conjunction();
             }
-            return cb.equal(cb.upper(root.get("propertyType")), type.toUpperCase());
+            return cb.equal(root.get("propertyTypeKey"), SearchKeys.type(type));
         };
     }
 
@@ -32,7 +39,7 @@ public class PropertySpecification {
             if (status == null || status.isBlank()) {
                 return cb.conjunction();
             }
-            return cb.equal(cb.upper(root.get("status")), status.toUpperCase());
+            return cb.equal(root.get("status"), SearchKeys.status(status));
         };
     }
 
@@ -62,6 +69,42 @@ public class PropertySpecification {
         };
     }
 
+    /* ======================
+       KEYSET
+    ====================== */
+
+    // Restricts to a candidate set, e.g. full-text hits
+    public static Specification<Property> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    // Rows strictly after the cursor in (sort key, id) order
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static Specification<Property> after(PropertyCursor cursor) {
+
+        return (root, query, cb) -> {
+
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+
+            Path key = root.get(cursor.sort().getField());
+            Comparable value = cursor.key();
+
+            if (cursor.sort().getDirection() == Sort.Direction.DESC) {
+                return cb.or(
+                        cb.lessThan(key, value),
+                        cb.and(cb.equal(key, value),
+                               cb.lessThan(root.get("id"), cursor.id())));
+            }
+
+            return cb.or(
+                    cb.greaterThan(key, value),
+                    cb.and(cb.equal(key, value),
+                           cb.greaterThan(root.get("id"), cursor.id())));
+        };
+    }
+
     /* ======================
        STATUS SHORTCUTS
     ====================== */
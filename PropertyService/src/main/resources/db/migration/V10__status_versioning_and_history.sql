@@ -0,0 +1,23 @@
+-- Optimistic version on properties and an append-only log of status
+-- transitions for moderation reports.
+
+ALTER TABLE properties
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE property_status_history (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    property_id BIGINT      NOT NULL,
+    from_status VARCHAR(20) NULL,
+    to_status   VARCHAR(20) NOT NULL,
+    actor_id    BIGINT      NULL,
+    changed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    -- time-range reports
+    INDEX idx_status_history_changed (changed_at, id),
+    -- one listing's timeline
+    INDEX idx_status_history_property (property_id, id)
+) ENGINE = InnoDB;
+
+-- listings that predate the log start with their creation
+INSERT INTO property_status_history (property_id, from_status, to_status, changed_at)
+SELECT id, NULL, 'PENDING', created_at FROM properties;
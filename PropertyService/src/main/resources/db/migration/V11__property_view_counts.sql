@@ -0,0 +1,10 @@
+-- All-time views per listing, written by periodic batched upserts
+
+CREATE TABLE property_view_counts (
+    property_id BIGINT      NOT NULL,
+    views       BIGINT      NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (property_id),
+    -- most viewed listings
+    INDEX idx_property_view_counts_views (views)
+) ENGINE = InnoDB;
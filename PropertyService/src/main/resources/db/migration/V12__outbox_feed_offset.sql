@@ -0,0 +1,14 @@
+-- Change-feed offsets assigned by the relay at publish time. AUTO_INCREMENT
+-- ids are taken before commit, so a slow transaction could otherwise be
+-- published below an offset consumers have already passed.
+
+ALTER TABLE property_outbox
+    ADD COLUMN feed_offset BIGINT NULL;
+
+-- already published rows keep the offsets consumers have seen
+UPDATE property_outbox
+SET feed_offset = id
+WHERE published_at IS NOT NULL;
+
+CREATE UNIQUE INDEX uk_property_outbox_feed_offset
+    ON property_outbox (feed_offset);
@@ -0,0 +1,31 @@
+-- Schema as previously created by ddl-auto=update, before any of the
+-- versioned migrations (V2 onwards).
+-- Existing databases are baselined at this version and skip it.
+
+CREATE TABLE properties (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    title            VARCHAR(255) NOT NULL,
+    description      TEXT         NOT NULL,
+    price            DOUBLE       NOT NULL,
+    area_sqft        INT          NOT NULL,
+    property_type    VARCHAR(255) NOT NULL,
+    address_line     VARCHAR(255) NOT NULL,
+    city             VARCHAR(255) NOT NULL,
+    state            VARCHAR(255) NOT NULL,
+    pincode          VARCHAR(255) NOT NULL,
+    owner_id         BIGINT       NOT NULL,
+    status           VARCHAR(255) NOT NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    updated_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE property_images (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    image_url   VARCHAR(500) NOT NULL,
+    is_primary  BIT          NOT NULL,
+    property_id BIGINT       NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_property_images_property
+        FOREIGN KEY (property_id) REFERENCES properties (id)
+) ENGINE = InnoDB;
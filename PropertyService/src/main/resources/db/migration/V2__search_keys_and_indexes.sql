@@ -0,0 +1,43 @@
+-- Denormalized primary image for listing cards, and the keyset
+-- pagination indexes for GET /properties (status, sort key, id).
+
+ALTER TABLE properties
+    ADD COLUMN primary_image_id BIGINT NULL;
+
+-- flagged primary image, else the first one (as addProperty does)
+UPDATE properties p
+SET p.primary_image_id = COALESCE(
+        (SELECT MIN(i.id) FROM property_images i
+         WHERE i.property_id = p.id AND i.is_primary = 1),
+        (SELECT MIN(i.id) FROM property_images i
+         WHERE i.property_id = p.id));
+
+CREATE INDEX idx_properties_status_created
+    ON properties (status, created_at, id);
+
+CREATE INDEX idx_properties_status_price
+    ON properties (status, price, id);
+
+-- Normalized search columns so filters compare plain values and can use
+-- indexes (previously lower(city) / upper(property_type) / upper(status)).
+
+ALTER TABLE properties
+    ADD COLUMN city_key          VARCHAR(100) NULL,
+    ADD COLUMN property_type_key VARCHAR(100) NULL;
+
+UPDATE properties
+SET city_key          = LOWER(TRIM(city)),
+    property_type_key = UPPER(TRIM(property_type)),
+    status            = UPPER(TRIM(status));
+
+ALTER TABLE properties
+    MODIFY city_key          VARCHAR(100) NOT NULL,
+    MODIFY property_type_key VARCHAR(100) NOT NULL;
+
+-- /properties/search: status + city [+ type] + price range
+CREATE INDEX idx_properties_search
+    ON properties (status, city_key, property_type_key, price);
+
+-- /properties/search: status + type + price range (no city)
+CREATE INDEX idx_properties_status_type_price
+    ON properties (status, property_type_key, price);
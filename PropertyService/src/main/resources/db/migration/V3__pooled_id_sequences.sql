@@ -0,0 +1,18 @@
+-- Table-backed sequences for Property / PropertyImage ids (MySQL has no
+-- sequences; Hibernate emulates them with a next_val table). A pooled
+-- optimizer with allocationSize 50 hands out next_val - 49 .. next_val,
+-- so start one allocation above the current max id.
+
+CREATE TABLE property_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO property_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM properties;
+
+CREATE TABLE property_image_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO property_image_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM property_images;
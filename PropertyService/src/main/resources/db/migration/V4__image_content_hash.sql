@@ -0,0 +1,4 @@
+-- SHA-256 of uploaded image bytes (null for URL-only images)
+
+ALTER TABLE property_images
+    ADD COLUMN content_hash VARCHAR(64) NULL;
@@ -0,0 +1,9 @@
+-- Thumbnail and responsive variants produced by the background pipeline
+
+ALTER TABLE property_images
+    ADD COLUMN thumbnail_url  VARCHAR(500)  NULL,
+    ADD COLUMN srcset         VARCHAR(2000) NULL,
+    ADD COLUMN variant_status VARCHAR(20)   NULL;
+
+CREATE INDEX idx_property_images_variant_status
+    ON property_images (variant_status, id);
@@ -0,0 +1,12 @@
+-- Transactional outbox for property lifecycle events; id is the feed offset
+
+CREATE TABLE property_outbox (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    property_id  BIGINT      NOT NULL,
+    event_type   VARCHAR(40) NOT NULL,
+    payload      TEXT        NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    published_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    INDEX idx_property_outbox_unpublished (published_at, id)
+) ENGINE = InnoDB;
@@ -0,0 +1,19 @@
+-- Stored price per sqft so sort=price_per_sqft can walk an index
+-- (same formula as Property#normalize: area below 1 counts as 1).
+
+ALTER TABLE properties
+    ADD COLUMN price_per_sqft DOUBLE NULL;
+
+UPDATE properties
+SET price_per_sqft = price / GREATEST(area_sqft, 1);
+
+ALTER TABLE properties
+    MODIFY price_per_sqft DOUBLE NOT NULL;
+
+-- sort=newest and sort=price_asc|price_desc use the V2 indexes
+-- (status, created_at, id) and (status, price, id); DESC is a backward scan.
+CREATE INDEX idx_properties_status_area
+    ON properties (status, area_sqft, id);
+
+CREATE INDEX idx_properties_status_ppsf
+    ON properties (status, price_per_sqft, id);
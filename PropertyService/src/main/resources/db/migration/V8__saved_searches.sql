@@ -0,0 +1,28 @@
+-- Saved searches and their match notifications (queue + per-user inbox)
+
+CREATE TABLE saved_searches (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id           BIGINT       NOT NULL,
+    city              VARCHAR(100) NULL,
+    property_type     VARCHAR(100) NULL,
+    min_price         DOUBLE       NULL,
+    max_price         DOUBLE       NULL,
+    keywords          VARCHAR(255) NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_saved_searches_user (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE saved_search_notifications (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT      NOT NULL,
+    saved_search_id BIGINT      NOT NULL,
+    property_id     BIGINT      NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    sent_at         DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    -- a listing is announced once per saved search
+    UNIQUE KEY uk_saved_search_notifications (saved_search_id, property_id),
+    INDEX idx_saved_search_notifications_pending (sent_at, user_id),
+    INDEX idx_saved_search_notifications_user (user_id, id)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- SimHash of title/description/address and the near-duplicate flag.
+-- Older rows keep a NULL hash; the in-memory index computes it at startup.
+
+ALTER TABLE properties
+    ADD COLUMN simhash         BIGINT NULL,
+    ADD COLUMN duplicate_of_id BIGINT NULL;
+
+-- admin duplicates queue: status = PENDING and duplicate_of_id IS NOT NULL
+CREATE INDEX idx_properties_status_duplicate
+    ON properties (status, duplicate_of_id);
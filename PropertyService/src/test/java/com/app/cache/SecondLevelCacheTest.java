@@ -0,0 +1,74 @@
+package com.app.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.model.Property;
+import com.app.repository.PropertyRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Boots Hibernate with the application's JCache regions on in-memory H2.
+// No test transaction: entities reach the cache only when a load commits.
+@DataJpaTest(properties = {
+		"spring.test.database.replace=none",
+		"spring.datasource.url=jdbc:h2:mem:second-level-cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+	@Autowired
+	private PropertyRepository repository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void secondLoadIsServedFromTheCache() {
+
+		Long id = repository.save(property()).getId();
+
+		Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		repository.findById(id).orElseThrow();
+		stats.clear();
+
+		Property cached = repository.findById(id).orElseThrow();
+
+		assertThat(cached.getTitle()).isEqualTo("Cached listing");
+		assertThat(stats.getCacheRegionStatistics(Property.CACHE_REGION).getHitCount())
+				.isEqualTo(1);
+		assertThat(stats.getPrepareStatementCount()).isZero();
+	}
+
+	private Property property() {
+
+		Property p = new Property();
+		p.setTitle("Cached listing");
+		p.setDescription("Test listing");
+		p.setPrice(1_000_000d);
+		p.setAreaSqft(900);
+		p.setPropertyType("FLAT");
+		p.setAddressLine("Test road");
+		p.setCity("Pune");
+		p.setState("Maharashtra");
+		p.setPincode("411001");
+		p.setOwnerId(1L);
+		p.setStatus("APPROVED");
+		p.setImages(new ArrayList<>());
+		return p;
+	}
+}
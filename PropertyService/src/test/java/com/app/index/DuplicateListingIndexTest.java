@@ -0,0 +1,111 @@
+package com.app.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.app.model.Property;
+import com.app.repository.PropertyRepository;
+
+class DuplicateListingIndexTest {
+
+	private static final String DESCRIPTION =
+			"Spacious 2 BHK flat with covered parking, modular kitchen, east facing "
+			+ "balcony and 24x7 security in a gated society close to the metro station";
+
+	@Test
+	void fingerprintIsStableAndCloseForSmallEdits() {
+
+		Property original = listing(1L, "2 BHK flat in Kothrud", DESCRIPTION);
+		Property reposted = listing(2L, "Spacious 2 BHK flat in Kothrud", DESCRIPTION);
+		Property unrelated = new Property();
+		unrelated.setTitle("Independent villa with garden");
+		unrelated.setDescription("Four bedroom villa with a private lawn and two car garage near the beach");
+		unrelated.setAddressLine("Plot 17, Candolim Beach Road");
+		unrelated.setCity("Goa");
+		unrelated.setPincode("403515");
+
+		long hash = ListingFingerprint.simhash(original);
+
+		assertThat(ListingFingerprint.simhash(original)).isEqualTo(hash);
+		assertThat(ListingFingerprint.distance(hash, ListingFingerprint.simhash(reposted)))
+				.isLessThanOrEqualTo(DuplicateListingIndex.MAX_DISTANCE);
+		assertThat(ListingFingerprint.distance(hash, ListingFingerprint.simhash(unrelated)))
+				.isGreaterThan(16);
+	}
+
+	@Test
+	void closestFindsHashesWithinMaxDistanceOnly() {
+
+		long hash = 0x0123_4567_89ab_cdefL;
+		DuplicateListingIndex index = index(indexed(7L, hash));
+
+		// flips spread over all four bands still share none of them
+		long threeBits = hash ^ (1L | 1L << 20 | 1L << 40);
+		long fourBits = hash ^ (1L | 1L << 20 | 1L << 40 | 1L << 60);
+
+		assertThat(index.closest(hash)).isEqualTo(7L);
+		assertThat(index.closest(threeBits)).isEqualTo(7L);
+		assertThat(index.closest(fourBits)).isNull();
+	}
+
+	@Test
+	void closestPrefersNearestThenOldest() {
+
+		long hash = 0x0fed_cba9_8765_4321L;
+		DuplicateListingIndex index = index(
+				indexed(9L, hash ^ 1L),
+				indexed(5L, hash ^ 2L),
+				indexed(3L, hash ^ 3L));
+
+		assertThat(index.closest(hash)).isEqualTo(5L);
+	}
+
+	@Test
+	void fingerprintFlagsTheOriginalListing() {
+
+		Property original = listing(1L, "2 BHK flat in Kothrud", DESCRIPTION);
+		original.setSimhash(ListingFingerprint.simhash(original));
+		DuplicateListingIndex index = index(original);
+
+		Property copy = listing(null, "2 BHK flat in Kothrud", DESCRIPTION);
+		index.fingerprint(copy);
+
+		assertThat(copy.getSimhash()).isEqualTo(original.getSimhash());
+		assertThat(copy.getDuplicateOfId()).isEqualTo(1L);
+	}
+
+	private static DuplicateListingIndex index(Property... live) {
+
+		PropertyRepository repository = mock(PropertyRepository.class);
+		when(repository.findByStatusNot("REJECTED")).thenReturn(List.of(live));
+
+		DuplicateListingIndex index = new DuplicateListingIndex(repository, true);
+		index.warmUp();
+		return index;
+	}
+
+	private static Property indexed(Long id, long simhash) {
+		Property p = new Property();
+		p.setId(id);
+		p.setStatus("PENDING");
+		p.setSimhash(simhash);
+		return p;
+	}
+
+	private static Property listing(Long id, String title, String description) {
+		Property p = new Property();
+		p.setId(id);
+		p.setTitle(title);
+		p.setDescription(description);
+		p.setAddressLine("Flat 302, Sai Residency, Paud Road, Kothrud");
+		p.setCity("Pune");
+		p.setPincode("411038");
+		p.setStatus("PENDING");
+		return p;
+	}
+}
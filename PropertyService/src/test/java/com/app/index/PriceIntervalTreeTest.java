@@ -0,0 +1,71 @@
+package com.app.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class PriceIntervalTreeTest {
+
+	@Test
+	void stabReportsExactlyTheContainingRanges() {
+
+		Random random = new Random(42);
+		List<PriceIntervalTree.Interval> intervals = new ArrayList<>();
+		for (long id = 0; id < 500; id++) {
+			double low = random.nextInt(100) * 10_000d;
+			double high = low + random.nextInt(50) * 10_000d;
+			switch ((int) (id % 10)) {
+				case 0 -> low = Double.NEGATIVE_INFINITY;
+				case 1 -> high = Double.POSITIVE_INFINITY;
+				default -> { }
+			}
+			intervals.add(new PriceIntervalTree.Interval(id, low, high));
+		}
+		PriceIntervalTree tree = PriceIntervalTree.build(intervals);
+
+		for (int i = 0; i < 200; i++) {
+			double price = random.nextInt(1_600) * 1_000d;
+
+			List<Long> expected = intervals.stream()
+					.filter(iv -> iv.low() <= price && price <= iv.high())
+					.map(PriceIntervalTree.Interval::id)
+					.toList();
+			List<Long> actual = new ArrayList<>();
+			tree.stab(price, actual::add);
+
+			assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
+	@Test
+	void boundsAreInclusive() {
+
+		PriceIntervalTree tree = PriceIntervalTree.build(List.of(
+				new PriceIntervalTree.Interval(1, 100, 200),
+				new PriceIntervalTree.Interval(2, 200, 300)));
+
+		List<Long> hits = new ArrayList<>();
+		tree.stab(200, hits::add);
+		assertThat(hits).containsExactlyInAnyOrder(1L, 2L);
+
+		hits.clear();
+		tree.stab(99.99, hits::add);
+		assertThat(hits).isEmpty();
+	}
+
+	@Test
+	void emptyTreeMatchesNothing() {
+
+		PriceIntervalTree tree = PriceIntervalTree.build(List.of());
+
+		List<Long> hits = new ArrayList<>();
+		tree.stab(1_000, hits::add);
+
+		assertThat(tree.size()).isZero();
+		assertThat(hits).isEmpty();
+	}
+}
@@ -0,0 +1,93 @@
+package com.app.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.app.event.PropertyChangedEvent;
+import com.app.model.Property;
+import com.app.repository.PropertyRepository;
+
+class SimilarPropertyIndexTest {
+
+	private SimilarPropertyIndex index;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+
+		List<Property> approved = List.of(
+				property(1, "Aurangabad", "Maharashtra", 5_000_000),
+				property(2, "Aurangabad", "Maharashtra", 5_100_000),
+				property(3, "Aurangabad", "Bihar", 5_000_000),
+				property(4, "Pune", "Maharashtra", 9_000_000));
+
+		PropertyRepository repository = mock(PropertyRepository.class);
+		when(repository.findAll(any(Specification.class))).thenReturn(approved);
+
+		index = new SimilarPropertyIndex(repository, true);
+		index.warmUp();
+	}
+
+	@Test
+	void sameCityNameInAnotherStateIsNotANeighbour() {
+		assertThat(index.similar(1L, 10)).containsExactly(2L, 4L);
+		assertThat(index.similar(3L, 10)).isEmpty();
+	}
+
+	@Test
+	void emptiedCityDropsOutAndCanComeBack() {
+
+		Property pune = property(4, "Pune", "Maharashtra", 9_000_000);
+		pune.setStatus("REJECTED");
+		index.onPropertyChanged(PropertyChangedEvent.of(pune, "APPROVED"));
+
+		assertThat(index.similar(4L, 10)).isNull();
+		assertThat(index.similar(1L, 10)).containsExactly(2L);
+
+		pune.setStatus("APPROVED");
+		index.onPropertyChanged(PropertyChangedEvent.of(pune, "REJECTED"));
+
+		assertThat(index.similar(4L, 10)).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void lastPropertyOfAStateCanBeRemovedAndReadded() {
+
+		Property bihar = property(3, "Aurangabad", "Bihar", 5_000_000);
+		bihar.setStatus("REJECTED");
+		index.onPropertyChanged(PropertyChangedEvent.of(bihar, "APPROVED"));
+
+		assertThat(index.similar(3L, 10)).isNull();
+
+		bihar.setStatus("APPROVED");
+		index.onPropertyChanged(PropertyChangedEvent.of(bihar, "REJECTED"));
+
+		assertThat(index.similar(3L, 10)).isEmpty();
+	}
+
+	private static Property property(long id, String city, String state, double price) {
+
+		Property p = new Property();
+		p.setId(id);
+		p.setTitle("Listing " + id);
+		p.setDescription("Test listing");
+		p.setPrice(price);
+		p.setAreaSqft(1000);
+		p.setPropertyType("FLAT");
+		p.setAddressLine("Test road");
+		p.setCity(city);
+		p.setState(state);
+		p.setPincode("400001");
+		p.setOwnerId(1L);
+		p.setStatus("APPROVED");
+		return p;
+	}
+}
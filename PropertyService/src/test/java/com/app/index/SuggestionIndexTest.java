@@ -0,0 +1,98 @@
+package com.app.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.app.dto.Suggestion;
+import com.app.model.Property;
+import com.app.repository.PropertyRepository;
+
+class SuggestionIndexTest {
+
+	private SuggestionIndex index;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+
+		List<Property> approved = new ArrayList<>();
+		long id = 1;
+		for (int i = 0; i < 3; i++) {
+			approved.add(approvedProperty(id++, "Pune", "Maharashtra", "12 FC Road, Shivajinagar", "411005"));
+		}
+		for (int i = 0; i < 2; i++) {
+			approved.add(approvedProperty(id++, "Mumbai", "Maharashtra", "4 Hill Road, Bandra", "400050"));
+		}
+		approved.add(approvedProperty(id, "Puri", "Odisha", "Marine Drive, Swargadwar", "752001"));
+
+		PropertyRepository repository = mock(PropertyRepository.class);
+		when(repository.findAll(any(Specification.class))).thenReturn(approved);
+
+		index = new SuggestionIndex(repository, true);
+		index.warmUp();
+	}
+
+	@Test
+	void exactPrefixListsCompletionsByCount() {
+
+		List<Suggestion> suggestions = index.suggest("pu", 5);
+
+		assertThat(suggestions).extracting(Suggestion::text)
+				.startsWith("Pune", "Puri");
+		assertThat(suggestions.get(0).count()).isEqualTo(3);
+	}
+
+	@Test
+	void substitutionIsTolerated() {
+		assertThat(texts(index.suggest("mumbqi", 5))).contains("Mumbai");
+	}
+
+	@Test
+	void extraTrailingCharacterStillFindsShorterTerm() {
+		assertThat(texts(index.suggest("punee", 5))).contains("Pune");
+		assertThat(texts(index.suggest("mumbaii", 5))).contains("Mumbai");
+	}
+
+	@Test
+	void missingCharacterIsTolerated() {
+		assertThat(texts(index.suggest("mumbi", 5))).contains("Mumbai");
+	}
+
+	@Test
+	void exactCompletionsComeBeforeFuzzyOnes() {
+
+		List<String> texts = texts(index.suggest("pun", 5));
+
+		assertThat(texts).first().isEqualTo("Pune");
+	}
+
+	@Test
+	void unrelatedPrefixFindsNothing() {
+		assertThat(index.suggest("zzzz", 5)).isEmpty();
+	}
+
+	private static List<String> texts(List<Suggestion> suggestions) {
+		return suggestions.stream().map(Suggestion::text).toList();
+	}
+
+	private static Property approvedProperty(long id, String city, String state,
+											 String addressLine, String pincode) {
+		Property p = new Property();
+		p.setId(id);
+		p.setCity(city);
+		p.setState(state);
+		p.setAddressLine(addressLine);
+		p.setPincode(pincode);
+		p.setStatus("APPROVED");
+		return p;
+	}
+}
@@ -0,0 +1,76 @@
+package com.app.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TrendingSketchTest {
+
+	@Test
+	void exactWhileUnderCapacity() {
+
+		TrendingSketch sketch = new TrendingSketch(10);
+		sketch.add(1, 5);
+		sketch.add(2, 3);
+		sketch.add(1, 2);
+		sketch.add(3, 9);
+
+		assertThat(sketch.top(3)).containsExactly(
+				new TrendingSketch.Entry(3, 9, 0),
+				new TrendingSketch.Entry(1, 7, 0),
+				new TrendingSketch.Entry(2, 3, 0));
+	}
+
+	@Test
+	void heavyHittersSurviveALongTail() {
+
+		TrendingSketch sketch = new TrendingSketch(20);
+		Random random = new Random(7);
+
+		// three hot listings, interleaved with 5000 one-off views
+		for (int i = 0; i < 5_000; i++) {
+			sketch.add(1_000 + random.nextInt(100_000), 1);
+			if (i % 10 == 0) {
+				sketch.add(1, 3);
+				sketch.add(2, 2);
+				sketch.add(3, 1);
+			}
+		}
+
+		List<TrendingSketch.Entry> top = sketch.top(3);
+
+		assertThat(top).extracting(TrendingSketch.Entry::id).containsExactly(1L, 2L, 3L);
+		// counts never underestimate, and count - error never overestimates
+		assertThat(top.get(0).count()).isGreaterThanOrEqualTo(1_500);
+		assertThat(top.get(0).count() - top.get(0).error()).isLessThanOrEqualTo(1_500);
+	}
+
+	@Test
+	void decayLetsRecentViewsOvertakeOldOnes() {
+
+		TrendingSketch sketch = new TrendingSketch(10);
+		sketch.add(1, 100);
+		sketch.decay(0.5);
+		sketch.decay(0.5);
+		sketch.add(2, 30);
+
+		assertThat(sketch.top(2)).extracting(TrendingSketch.Entry::id).containsExactly(2L, 1L);
+		assertThat(sketch.top(2).get(1).count()).isEqualTo(25);
+	}
+
+	@Test
+	void evictionReplacesTheSmallestEntry() {
+
+		TrendingSketch sketch = new TrendingSketch(2);
+		sketch.add(1, 10);
+		sketch.add(2, 4);
+		sketch.add(3, 1);
+
+		assertThat(sketch.top(2)).containsExactly(
+				new TrendingSketch.Entry(1, 10, 0),
+				new TrendingSketch.Entry(3, 5, 4));
+	}
+}
@@ -0,0 +1,79 @@
+package com.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.dto.ImportReport;
+import com.app.dto.ImportReport.RowError;
+import com.app.index.DuplicateListingIndex;
+import com.app.service.PropertyImportService.Format;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.databind.ObjectMapper;
+
+class PropertyImportServiceTest {
+
+	private static final String HEADER =
+			"title,description,price,areaSqft,propertyType,addressLine,city,state,pincode,ownerId";
+
+	private PropertyImportService service;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+
+		TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+		doAnswer(inv -> {
+			inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+		service = new PropertyImportService(
+				mock(EntityManager.class),
+				transactionTemplate,
+				new ObjectMapper(),
+				mock(DuplicateListingIndex.class),
+				mock(ApplicationEventPublisher.class));
+	}
+
+	@Test
+	void nonFinitePricesAreRejected() throws IOException {
+
+		ImportReport report = importCsv(
+				row("1000000"),
+				row("NaN"),
+				row("Infinity"),
+				row("-Infinity"),
+				row("0"));
+
+		assertThat(report.totalRows()).isEqualTo(5);
+		assertThat(report.imported()).isEqualTo(1);
+		assertThat(report.errors()).extracting(RowError::line)
+				.containsExactly(3L, 4L, 5L, 6L);
+		assertThat(report.errors()).extracting(RowError::message)
+				.containsOnly("price must be a positive finite number");
+	}
+
+	private ImportReport importCsv(String... rows) throws IOException {
+		String csv = HEADER + "\n" + String.join("\n", rows) + "\n";
+		return service.importProperties(
+				new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), Format.CSV);
+	}
+
+	private static String row(String price) {
+		return "Flat,Test listing," + price + ",900,FLAT,Test road,Pune,Maharashtra,411001,1";
+	}
+}
@@ -0,0 +1,129 @@
+package com.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.app.cache.PropertyCache;
+import com.app.cache.SecondLevelCacheStats;
+import com.app.index.DuplicateListingIndex;
+import com.app.index.PropertyFullTextIndex;
+import com.app.index.PropertySearchIndex;
+import com.app.index.PropertyStatusCounter;
+import com.app.index.PropertyViewCounter;
+import com.app.index.SimilarPropertyIndex;
+import com.app.index.SuggestionIndex;
+import com.app.model.Property;
+import com.app.model.PropertyImage;
+import com.app.repository.PropertyRepository;
+
+import jakarta.persistence.EntityManager;
+
+// JPA slice on in-memory H2 (MySQL mode) with the application's
+// second-level and query caches on, as in production; the schema comes
+// from the entities because the Flyway scripts are MySQL-only
+@DataJpaTest(properties = {
+		"spring.test.database.replace=none",
+		"spring.datasource.url=jdbc:h2:mem:query-count;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(PropertyService.class)
+class PropertyServiceQueryCountTest {
+
+	@MockitoBean
+	private PropertySearchIndex searchIndex;
+
+	@MockitoBean
+	private PropertyFullTextIndex fullTextIndex;
+
+	@MockitoBean
+	private PropertyStatusCounter statusCounter;
+
+	@MockitoBean
+	private SimilarPropertyIndex similarIndex;
+
+	@MockitoBean
+	private DuplicateListingIndex duplicateIndex;
+
+	@MockitoBean
+	private SuggestionIndex suggestionIndex;
+
+	@MockitoBean
+	private PropertyViewCounter viewCounter;
+
+	@MockitoBean
+	private PropertyCache cache;
+
+	@MockitoBean
+	private SecondLevelCacheStats secondLevelStats;
+
+	@Autowired
+	private PropertyService service;
+
+	@Autowired
+	private PropertyRepository repository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void approvedListLoadsImagesWithFixedQueryCount() {
+
+		for (int i = 0; i < 5; i++) {
+			repository.save(approvedProperty(i));
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics stats = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+		stats.clear();
+
+		List<Property> properties = service.getApprovedProperties();
+
+		// what Jackson does while serializing the list
+		properties.forEach(p -> p.getImages().size());
+
+		assertThat(properties).hasSizeGreaterThanOrEqualTo(5);
+		assertThat(stats.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	private Property approvedProperty(int i) {
+
+		Property p = new Property();
+		p.setTitle("Query count " + i);
+		p.setDescription("Test listing");
+		p.setPrice(1_000_000d + i);
+		p.setAreaSqft(900);
+		p.setPropertyType("FLAT");
+		p.setAddressLine("Test road");
+		p.setCity("Pune");
+		p.setState("Maharashtra");
+		p.setPincode("411001");
+		p.setOwnerId(1L);
+		p.setStatus("APPROVED");
+		p.setImages(new ArrayList<>());
+
+		for (int j = 0; j < 2; j++) {
+			PropertyImage img = new PropertyImage();
+			img.setImageUrl("/property/" + j + ".jpg");
+			img.setIsPrimary(j == 0);
+			p.addImage(img);
+		}
+		return p;
+	}
+}